@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache.bench;
+
+import java.time.Duration;
+import org.cactoos.Func;
+import org.cactoos.cache.ClockFunc;
+import org.cactoos.cache.ConcurrentLruFunc;
+import org.cactoos.cache.ConcurrentWeakFunc;
+import org.cactoos.cache.ExpiringFunc;
+import org.cactoos.cache.Expiry;
+import org.cactoos.cache.LruFunc;
+import org.cactoos.cache.MultiLevelFunc;
+import org.cactoos.cache.SoftFunc;
+import org.cactoos.cache.TinyLfuFunc;
+import org.cactoos.cache.WeakFunc;
+import org.cactoos.func.SyncFunc;
+
+/**
+ * Caches under benchmark.
+ * <p>
+ * Origin func of every cache just creates new object, so
+ * benchmarks measure cache overhead only.
+ *
+ * @since 0.1
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle CyclomaticComplexityCheck (500 lines)
+ */
+final class Caches {
+
+    /**
+     * Cache name.
+     */
+    private final String name;
+
+    /**
+     * Ctor.
+     *
+     * @param name Cache name, it's a simple class name of the cache,
+     *  or {@code SyncLruFunc} for {@link LruFunc} with global lock
+     */
+    Caches(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * New cache instance.
+     *
+     * @param size Cache size for bounded caches
+     * @return Cache func
+     */
+    @SuppressWarnings(
+        {
+            "PMD.CyclomaticComplexity",
+            "PMD.StdCyclomaticComplexity"
+        }
+    )
+    public Func<Integer, Object> cache(final int size) {
+        final Func<Integer, Object> origin = key -> new Object();
+        final Func<Integer, Object> cache;
+        switch (this.name) {
+            case "SoftFunc":
+                cache = new SoftFunc<>(origin);
+                break;
+            case "WeakFunc":
+                cache = new WeakFunc<>(origin);
+                break;
+            case "LruFunc":
+                cache = new LruFunc<>(origin, size);
+                break;
+            case "TinyLfuFunc":
+                cache = new TinyLfuFunc<>(origin, size);
+                break;
+            case "ExpiringFunc":
+                cache = new ExpiringFunc<>(
+                    origin, Duration.ofSeconds(1L), Expiry.AFTER_ACCESS
+                );
+                break;
+            case "ConcurrentLruFunc":
+                cache = new ConcurrentLruFunc<>(origin, size);
+                break;
+            case "ClockFunc":
+                cache = new ClockFunc<>(origin, size);
+                break;
+            case "MultiLevelFunc":
+                // @checkstyle MagicNumberCheck (1 line)
+                cache = new MultiLevelFunc<>(origin, 16, size);
+                break;
+            case "ConcurrentWeakFunc":
+                cache = new ConcurrentWeakFunc<>(origin);
+                break;
+            case "SyncLruFunc":
+                cache = new SyncFunc<>(new LruFunc<>(origin, size));
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown cache: %s", this.name)
+                );
+        }
+        return cache;
+    }
+}
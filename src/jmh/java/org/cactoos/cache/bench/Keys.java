@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache.bench;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Sequence of benchmark keys.
+ * <p>
+ * Keys are taken from {@code [0, space)} range with uniform or Zipfian
+ * (exponent {@code 0.99}) distribution, with lowest keys as most frequent.
+ * The sequence is generated in advance and keys are boxed in advance,
+ * so measured code doesn't generate random numbers and doesn't box keys.
+ *
+ * @since 0.1
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class Keys {
+
+    /**
+     * Sequence length, must be a power of two.
+     */
+    private static final int LENGTH = 1 << 16;
+
+    /**
+     * Zipf exponent.
+     */
+    private static final double EXPONENT = 0.99;
+
+    /**
+     * Keys sequence.
+     */
+    private final Integer[] seq;
+
+    /**
+     * Ctor.
+     *
+     * @param distribution Distribution name: {@code uniform} or {@code zipf}
+     * @param space Number of distinct keys
+     */
+    Keys(final String distribution, final int space) {
+        this.seq = Keys.generate(distribution, space);
+    }
+
+    /**
+     * Key at position.
+     *
+     * @param pos Any position, sequence is cycled
+     * @return Key
+     */
+    public Integer key(final int pos) {
+        return this.seq[pos & Keys.LENGTH - 1];
+    }
+
+    /**
+     * Generate keys.
+     *
+     * @param distribution Distribution name
+     * @param space Number of distinct keys
+     * @return Keys sequence
+     */
+    private static Integer[] generate(final String distribution,
+        final int space) {
+        final Random rnd = new Random(0L);
+        final double[] cdf = Keys.cdf(distribution, space);
+        final Integer[] keys = new Integer[Keys.LENGTH];
+        for (int idx = 0; idx < keys.length; ++idx) {
+            int pos = Arrays.binarySearch(cdf, rnd.nextDouble());
+            if (pos < 0) {
+                pos = -pos - 1;
+            }
+            keys[idx] = Math.min(space - 1, pos);
+        }
+        return keys;
+    }
+
+    /**
+     * Cumulative distribution function of keys.
+     *
+     * @param distribution Distribution name
+     * @param space Number of distinct keys
+     * @return Cumulative probabilities of keys
+     */
+    private static double[] cdf(final String distribution, final int space) {
+        final boolean zipf = "zipf".equals(distribution);
+        if (!zipf && !"uniform".equals(distribution)) {
+            throw new IllegalArgumentException(
+                String.format("Unknown distribution: %s", distribution)
+            );
+        }
+        final double[] cdf = new double[space];
+        double sum = 0.0;
+        for (int idx = 0; idx < space; ++idx) {
+            if (zipf) {
+                sum += 1.0 / Math.pow(idx + 1.0, Keys.EXPONENT);
+            } else {
+                sum += 1.0;
+            }
+            cdf[idx] = sum;
+        }
+        for (int idx = 0; idx < space; ++idx) {
+            cdf[idx] /= sum;
+        }
+        return cdf;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single-threaded latency of caches.
+ * <p>
+ * {@link #hit()} uses only keys which are in the cache,
+ * {@link #miss()} uses only new keys (it boxes one {@link Integer} per
+ * operation), {@link #mixed()} uses keys from the range four times
+ * bigger than cache size, so hit ratio depends on key distribution
+ * and cache eviction policy.
+ *
+ * @since 0.1
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LatencyBench {
+
+    /**
+     * Cache name.
+     */
+    @Param(
+        {
+            "SoftFunc", "WeakFunc", "LruFunc", "TinyLfuFunc", "ExpiringFunc",
+            "ConcurrentLruFunc", "ConcurrentWeakFunc"
+        }
+    )
+    public String cache;
+
+    /**
+     * Cache size.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    /**
+     * Keys distribution.
+     */
+    @Param({"uniform", "zipf"})
+    public String distribution;
+
+    /**
+     * Cache under benchmark.
+     */
+    private Func<Integer, Object> func;
+
+    /**
+     * Cached keys.
+     */
+    private Keys hot;
+
+    /**
+     * Keys from wider range.
+     */
+    private Keys wide;
+
+    /**
+     * Position in keys sequence.
+     */
+    private int pos;
+
+    /**
+     * Next new key.
+     */
+    private int fresh;
+
+    /**
+     * Create and warm up the cache.
+     *
+     * @throws Exception If fails
+     */
+    @Setup(Level.Iteration)
+    public void setup() throws Exception {
+        this.func = new Caches(this.cache).cache(this.size);
+        this.hot = new Keys(this.distribution, this.size);
+        this.wide = new Keys(this.distribution, this.size * 4);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.func.apply(idx);
+        }
+        this.fresh = -1;
+    }
+
+    /**
+     * Lookup of cached key.
+     *
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Object hit() throws Exception {
+        ++this.pos;
+        return this.func.apply(this.hot.key(this.pos));
+    }
+
+    /**
+     * Lookup of new key.
+     *
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Object miss() throws Exception {
+        --this.fresh;
+        return this.func.apply(this.fresh);
+    }
+
+    /**
+     * Lookup of key from wider range.
+     *
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Object mixed() throws Exception {
+        ++this.pos;
+        return this.func.apply(this.wide.key(this.pos));
+    }
+}
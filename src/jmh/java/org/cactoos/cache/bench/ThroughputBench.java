@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of thread-safe caches shared by 1, 4 and 16 threads.
+ * <p>
+ * Keys are taken from the range two times bigger than cache size.
+ * {@code SyncLruFunc} is {@code LruFunc} guarded by one global lock,
+ * it's a baseline for concurrent caches.
+ *
+ * @since 0.1
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThroughputBench {
+
+    /**
+     * Cache name.
+     */
+    @Param(
+        {
+            "SyncLruFunc", "ConcurrentLruFunc", "ClockFunc",
+            "MultiLevelFunc", "ConcurrentWeakFunc"
+        }
+    )
+    public String cache;
+
+    /**
+     * Cache size.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * Keys distribution.
+     */
+    @Param({"uniform", "zipf"})
+    public String distribution;
+
+    /**
+     * Cache under benchmark.
+     */
+    private Func<Integer, Object> func;
+
+    /**
+     * Keys.
+     */
+    private Keys keys;
+
+    /**
+     * Create and warm up the cache.
+     *
+     * @throws Exception If fails
+     */
+    @Setup(Level.Iteration)
+    public void setup() throws Exception {
+        this.func = new Caches(this.cache).cache(this.size);
+        this.keys = new Keys(this.distribution, this.size * 2);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.func.apply(idx);
+        }
+    }
+
+    /**
+     * One thread.
+     *
+     * @param cursor Thread's cursor
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    @Threads(1)
+    public Object oneThread(final ThroughputBench.Cursor cursor)
+        throws Exception {
+        return this.func.apply(this.keys.key(cursor.next()));
+    }
+
+    /**
+     * Four threads.
+     *
+     * @param cursor Thread's cursor
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    @Threads(4)
+    public Object fourThreads(final ThroughputBench.Cursor cursor)
+        throws Exception {
+        return this.func.apply(this.keys.key(cursor.next()));
+    }
+
+    /**
+     * Sixteen threads.
+     *
+     * @param cursor Thread's cursor
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    @Threads(16)
+    public Object sixteenThreads(final ThroughputBench.Cursor cursor)
+        throws Exception {
+        return this.func.apply(this.keys.key(cursor.next()));
+    }
+
+    /**
+     * Position of the thread in keys sequence.
+     *
+     * @since 0.1
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        /**
+         * Position.
+         */
+        private int pos;
+
+        /**
+         * Start from random position.
+         */
+        @Setup
+        public void setup() {
+            this.pos = System.identityHashCode(this);
+        }
+
+        /**
+         * Next position.
+         *
+         * @return Position
+         */
+        public int next() {
+            ++this.pos;
+            return this.pos;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.BiFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Asynchronous cache bi-func based on {@link AsyncFunc}.
+ * <p>
+ * Arguments are cached as a new pair for each call, so
+ * {@link Retention.Weak} is rejected by constructors: the pair would be
+ * collected right after the call, and its future would be forgotten.
+ *
+ * @param <X> First argument type
+ * @param <Y> Second argument type
+ * @param <Z> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class AsyncBiFunc<X, Y, Z> implements
+    BiFunc<X, Y, CompletableFuture<Z>> {
+
+    /**
+     * Origin func.
+     */
+    private final AsyncFunc<Map.Entry<X, Y>, Z> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param retention Retention policy, not weak
+     */
+    public AsyncBiFunc(final BiFunc<X, Y, Z> func, final Retention retention) {
+        this(func, retention, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param retention Retention policy, not weak
+     * @param executor Executor of loads
+     */
+    public AsyncBiFunc(final BiFunc<X, Y, Z> func, final Retention retention,
+        final Executor executor) {
+        this.origin = new AsyncFunc<>(
+            key -> func.apply(key.getKey(), key.getValue()),
+            AsyncBiFunc.strong(retention), executor
+        );
+    }
+
+    @Override
+    public CompletableFuture<Z> apply(final X first, final Y second)
+        throws Exception {
+        return this.origin.apply(new MapEntry<>(first, second));
+    }
+
+    /**
+     * Check that the retention keeps pairs of arguments, which are not
+     * referenced by callers.
+     *
+     * @param retention Retention policy
+     * @return The same retention policy
+     */
+    private static Retention strong(final Retention retention) {
+        if (retention instanceof Retention.Weak) {
+            throw new IllegalArgumentException(
+                "Weak retention can't keep pairs of arguments"
+            );
+        }
+        return retention;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous cache func, which returns futures of func results.
+ * <p>
+ * Caller is never blocked by origin func, it's called on the executor,
+ * e.g. a virtual-thread-per-task executor, and the caller gets a future
+ * at once. All callers of the same key share one future, while it's
+ * retained by the {@link Retention} policy. Failed futures are dropped as
+ * soon as they fail, so next call for the key starts a new load.
+ * <p>
+ * Futures are kept in a thread-safe retention cache, see
+ * {@link Retention#concurrent(Func)}, and started by compare-and-set,
+ * so lookups of different keys don't share any lock and origin func is
+ * never called under a lock.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class AsyncFunc<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * Future slots.
+     */
+    private final Func<X, AtomicReference<CompletableFuture<Y>>> slots;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Executor of loads.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param retention Retention policy
+     */
+    public AsyncFunc(final Func<X, Y> func, final Retention retention) {
+        this(func, retention, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param retention Retention policy
+     * @param executor Executor of loads
+     */
+    public AsyncFunc(final Func<X, Y> func, final Retention retention,
+        final Executor executor) {
+        this.origin = func;
+        this.executor = executor;
+        this.slots = retention.concurrent(key -> new AtomicReference<>());
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public CompletableFuture<Y> apply(final X arg) throws Exception {
+        final AtomicReference<CompletableFuture<Y>> slot =
+            this.slots.apply(arg);
+        CompletableFuture<Y> future = slot.get();
+        while (future == null) {
+            final CompletableFuture<Y> fresh = new CompletableFuture<>();
+            if (slot.compareAndSet(null, fresh)) {
+                this.load(arg, slot, fresh);
+                future = fresh;
+            } else {
+                future = slot.get();
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Start loading of the value.
+     *
+     * @param arg Argument
+     * @param slot Slot of the future
+     * @param future Future to complete
+     */
+    private void load(final X arg,
+        final AtomicReference<CompletableFuture<Y>> slot,
+        final CompletableFuture<Y> future) {
+        future.whenComplete(
+            (val, err) -> {
+                if (err != null) {
+                    slot.compareAndSet(future, null);
+                }
+            }
+        );
+        try {
+            this.executor.execute(
+                new AsyncFunc.Load<>(this.origin, arg, future)
+            );
+        } catch (final RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Load of a value.
+     *
+     * @param <X> Argument type
+     * @param <Y> Result type
+     */
+    private static final class Load<X, Y> implements Runnable {
+
+        /**
+         * Origin func.
+         */
+        private final Func<X, Y> origin;
+
+        /**
+         * Argument.
+         */
+        private final X arg;
+
+        /**
+         * Future to complete.
+         */
+        private final CompletableFuture<Y> future;
+
+        /**
+         * Ctor.
+         *
+         * @param func Origin func
+         * @param arg Argument
+         * @param future Future to complete
+         */
+        Load(final Func<X, Y> func, final X arg,
+            final CompletableFuture<Y> future) {
+            this.origin = func;
+            this.arg = arg;
+            this.future = future;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public void run() {
+            try {
+                this.future.complete(this.origin.apply(this.arg));
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception err) {
+                this.future.completeExceptionally(err);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Error err) {
+                this.future.completeExceptionally(err);
+                throw err;
+            }
+        }
+    }
+}
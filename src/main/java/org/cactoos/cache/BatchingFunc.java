@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bulk loader decorator, which coalesces concurrent calls into one.
+ * <p>
+ * The first caller waits for the batching window, while arguments of
+ * other callers, arrived during the window, are added to its batch. Then
+ * origin loader is called once for the whole batch and each caller gets
+ * results of its own arguments. Failure of origin loader is shared by all
+ * callers of the batch. A call without arguments returns an empty map at
+ * once.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class BatchingFunc<X, Y> implements BulkFunc<X, Y> {
+
+    /**
+     * Arguments of the current batch.
+     */
+    private final Map<X, CompletableFuture<Y>> pending;
+
+    /**
+     * Origin loader.
+     */
+    private final BulkFunc<X, Y> origin;
+
+    /**
+     * Batching window in milliseconds.
+     */
+    private final long window;
+
+    /**
+     * Ctor.
+     *
+     * @param loader Origin loader
+     * @param window Batching window
+     */
+    public BatchingFunc(final BulkFunc<X, Y> loader, final Duration window) {
+        this.origin = loader;
+        this.window = window.toMillis();
+        this.pending = new HashMap<>(0);
+    }
+
+    @Override
+    public Map<X, Y> applyAll(final Collection<X> args) throws Exception {
+        final Map<X, Y> result;
+        if (args.isEmpty()) {
+            result = Collections.emptyMap();
+        } else {
+            result = this.batch(args);
+        }
+        return result;
+    }
+
+    /**
+     * Add arguments to the batch and wait for their values.
+     *
+     * @param args Arguments, not empty
+     * @return Results of arguments
+     * @throws Exception If loading fails
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private Map<X, Y> batch(final Collection<X> args) throws Exception {
+        final Map<X, CompletableFuture<Y>> own = new HashMap<>(args.size());
+        final boolean leader;
+        synchronized (this.pending) {
+            leader = this.pending.isEmpty();
+            for (final X arg : args) {
+                own.put(
+                    arg,
+                    this.pending.computeIfAbsent(
+                        arg, key -> new CompletableFuture<>()
+                    )
+                );
+            }
+        }
+        if (leader) {
+            try {
+                Thread.sleep(this.window);
+            } finally {
+                this.flush();
+            }
+        }
+        final Map<X, Y> result = new HashMap<>(own.size());
+        for (final Map.Entry<X, CompletableFuture<Y>> ent : own.entrySet()) {
+            final Y val = BatchingFunc.await(ent.getValue());
+            if (val != null) {
+                result.put(ent.getKey(), val);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Load current batch and complete its futures.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void flush() {
+        final Map<X, CompletableFuture<Y>> batch;
+        synchronized (this.pending) {
+            batch = new HashMap<>(this.pending);
+            this.pending.clear();
+        }
+        try {
+            final Map<X, Y> loaded = this.origin.applyAll(batch.keySet());
+            for (final Map.Entry<X, CompletableFuture<Y>> ent
+                : batch.entrySet()) {
+                ent.getValue().complete(loaded.get(ent.getKey()));
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception err) {
+            batch.values().forEach(flight -> flight.completeExceptionally(err));
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error err) {
+            batch.values().forEach(flight -> flight.completeExceptionally(err));
+            throw err;
+        }
+    }
+
+    /**
+     * Wait for a value of the batch.
+     *
+     * @param future Future value
+     * @param <T> Value type
+     * @return Value
+     * @throws Exception If loading failed
+     */
+    private static <T> T await(final CompletableFuture<T> future)
+        throws Exception {
+        try {
+            return future.get();
+        } catch (final ExecutionException err) {
+            final Throwable cause = err.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw err;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Scalar;
+
+/**
+ * Cache statistics counters.
+ * <p>
+ * It counts hits, misses, evictions by cause and load time distribution.
+ * All counters are {@link LongAdder}s, so concurrent caches can report
+ * into one instance without contention. Load time percentiles are
+ * computed from a log-linear histogram, so they are precise up to 25%.
+ *
+ * @since 0.1
+ */
+@ThreadSafe
+public final class CacheStats implements Stats {
+
+    /**
+     * Hits counter.
+     */
+    private final LongAdder hcount;
+
+    /**
+     * Misses counter.
+     */
+    private final LongAdder mcount;
+
+    /**
+     * Evictions counters.
+     */
+    private final Map<Stats.Cause, LongAdder> ecount;
+
+    /**
+     * Load time histogram in nanoseconds.
+     */
+    private final Histogram histogram;
+
+    /**
+     * Ctor.
+     */
+    public CacheStats() {
+        this.hcount = new LongAdder();
+        this.mcount = new LongAdder();
+        this.ecount = CacheStats.evictions();
+        this.histogram = new Histogram();
+    }
+
+    @Override
+    public void hit() {
+        this.hcount.increment();
+    }
+
+    @Override
+    public <T> T miss(final Scalar<T> load) throws Exception {
+        this.mcount.increment();
+        final long start = System.nanoTime();
+        try {
+            return load.value();
+        } finally {
+            this.histogram.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void evicted(final Stats.Cause cause) {
+        this.ecount.get(cause).increment();
+    }
+
+    /**
+     * Number of hits.
+     *
+     * @return Hits
+     */
+    public long hits() {
+        return this.hcount.sum();
+    }
+
+    /**
+     * Number of misses.
+     *
+     * @return Misses
+     */
+    public long misses() {
+        return this.mcount.sum();
+    }
+
+    /**
+     * Number of evictions with a cause.
+     *
+     * @param cause Eviction cause
+     * @return Evictions
+     */
+    public long evictions(final Stats.Cause cause) {
+        return this.ecount.get(cause).sum();
+    }
+
+    /**
+     * Ratio of hits to all lookups.
+     *
+     * @return Hit rate from 0 to 1, or 0 if there were no lookups
+     */
+    public double hitRate() {
+        final long hits = this.hits();
+        final long total = hits + this.misses();
+        double rate = 0.0;
+        if (total > 0L) {
+            rate = (double) hits / (double) total;
+        }
+        return rate;
+    }
+
+    /**
+     * Load time percentile.
+     *
+     * @param quantile Quantile from 0 to 1, e.g. 0.99 for 99th percentile
+     * @return Upper bound of load time for the quantile
+     */
+    public Duration loadTime(final double quantile) {
+        return Duration.ofNanos(this.histogram.quantile(quantile));
+    }
+
+    /**
+     * Create empty eviction counters.
+     *
+     * @return Counters
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static Map<Stats.Cause, LongAdder> evictions() {
+        final Map<Stats.Cause, LongAdder> map =
+            new EnumMap<>(Stats.Cause.class);
+        for (final Stats.Cause cause : Stats.Cause.values()) {
+            map.put(cause, new LongAdder());
+        }
+        return map;
+    }
+}
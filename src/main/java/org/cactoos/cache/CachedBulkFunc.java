@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Cache func which loads all missed values by one call of bulk loader.
+ * <p>
+ * Cached values are resolved first, then all missed arguments are passed
+ * to the loader at once, and loaded values are cached. Arguments absent in
+ * the loader result are not cached and absent in the result. Values are
+ * kept by one of {@link Retention} policies in their thread-safe versions,
+ * so callers don't share a global lock. The loader is called outside
+ * of any lock, it can be decorated by {@link BatchingFunc} to coalesce
+ * misses of concurrent callers into one call.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class CachedBulkFunc<X, Y> implements BulkFunc<X, Y>, Func<X, Y> {
+
+    /**
+     * Value slots.
+     */
+    private final Func<X, AtomicReference<Y>> slots;
+
+    /**
+     * Bulk loader.
+     */
+    private final BulkFunc<X, Y> loader;
+
+    /**
+     * Ctor.
+     *
+     * @param loader Bulk loader
+     * @param retention Retention policy
+     */
+    public CachedBulkFunc(final BulkFunc<X, Y> loader,
+        final Retention retention) {
+        this.loader = loader;
+        this.slots = retention.concurrent(key -> new AtomicReference<>());
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        return this.applyAll(Collections.singleton(arg)).get(arg);
+    }
+
+    @Override
+    public Map<X, Y> applyAll(final Collection<X> args) throws Exception {
+        final Map<X, Y> result = new LinkedHashMap<>(args.size());
+        final Map<X, AtomicReference<Y>> missed = new HashMap<>(0);
+        for (final X arg : args) {
+            final AtomicReference<Y> slot = this.slots.apply(arg);
+            final Y val = slot.get();
+            if (val == null) {
+                missed.put(arg, slot);
+            } else {
+                result.put(arg, val);
+            }
+        }
+        if (!missed.isEmpty()) {
+            final Map<X, Y> loaded = this.loader.applyAll(missed.keySet());
+            for (final Map.Entry<X, AtomicReference<Y>> ent
+                : missed.entrySet()) {
+                final Y val = loaded.get(ent.getKey());
+                if (val != null) {
+                    ent.getValue().set(val);
+                    result.put(ent.getKey(), val);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Thread-safe cache func with CLOCK approximation of LRU policy.
+ * <p>
+ * Values are kept in {@link ConcurrentHashMap}, a hit only reads the map
+ * and sets a reference bit of the entry, so the read path never takes a
+ * lock and doesn't write shared state, if the bit is already set. Misses
+ * place new entries into a ring under a lock: the clock hand goes over
+ * the ring, clears reference bits of recently used entries and evicts the
+ * first entry, which was not used since the hand passed it last time.
+ * Origin func is called outside of any lock. A cache of zero size
+ * keeps nothing and calls origin func every time. Null argument is
+ * cached under a sentinel key, like any other argument.
+ * <p>
+ * Func arguments must implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods
+ * to be used as cache keys.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class ClockFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Key of null argument.
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * Cached entries.
+     */
+    private final ConcurrentMap<Object, ClockFunc.Entry<Y>> map;
+
+    /**
+     * Ring of entries, guarded by itself.
+     */
+    private final ClockFunc.Entry<?>[] ring;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Clock hand.
+     */
+    private int hand;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     */
+    public ClockFunc(final Func<X, Y> func, final int size) {
+        this(func, size, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     * @param stats Stats, must be thread-safe
+     */
+    public ClockFunc(final Func<X, Y> func, final int size,
+        final Stats stats) {
+        this.origin = func;
+        this.stats = stats;
+        this.map = new ConcurrentHashMap<>(size);
+        this.ring = new ClockFunc.Entry<?>[size];
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        final Y val;
+        if (this.ring.length == 0) {
+            val = this.stats.miss(() -> this.origin.apply(arg));
+        } else {
+            val = this.cached(arg);
+        }
+        return val;
+    }
+
+    /**
+     * Look up the value in the cache, computing and placing it on miss.
+     *
+     * @param arg Argument
+     * @return Value
+     * @throws Exception If origin func fails
+     */
+    private Y cached(final X arg) throws Exception {
+        Object key = arg;
+        if (key == null) {
+            key = ClockFunc.NULL;
+        }
+        final ClockFunc.Entry<Y> entry = this.map.get(key);
+        final Y val;
+        if (entry == null) {
+            final ClockFunc.Entry<Y> fresh = new ClockFunc.Entry<>(
+                key, this.stats.miss(() -> this.origin.apply(arg))
+            );
+            final ClockFunc.Entry<Y> prev = this.map.putIfAbsent(key, fresh);
+            if (prev == null) {
+                this.place(fresh);
+                val = fresh.value;
+            } else {
+                val = prev.value;
+            }
+        } else {
+            entry.touch();
+            this.stats.hit();
+            val = entry.value;
+        }
+        return val;
+    }
+
+    /**
+     * Place new entry into the ring, evicting an entry, which was not
+     * used since the last pass of the hand.
+     *
+     * @param fresh New entry
+     */
+    @SuppressWarnings("unchecked")
+    private void place(final ClockFunc.Entry<Y> fresh) {
+        synchronized (this.ring) {
+            ClockFunc.Entry<Y> cur =
+                (ClockFunc.Entry<Y>) this.ring[this.hand];
+            while (cur != null && cur.release()) {
+                this.hand = (this.hand + 1) % this.ring.length;
+                cur = (ClockFunc.Entry<Y>) this.ring[this.hand];
+            }
+            if (cur != null) {
+                this.map.remove(cur.key, cur);
+                this.stats.evicted(Stats.Cause.SIZE);
+            }
+            this.ring[this.hand] = fresh;
+            this.hand = (this.hand + 1) % this.ring.length;
+        }
+    }
+
+    /**
+     * Cached entry with reference bit.
+     *
+     * @param <Y> Value type
+     */
+    private static final class Entry<Y> {
+
+        /**
+         * Key in the map.
+         */
+        private final Object key;
+
+        /**
+         * Value.
+         */
+        private final Y value;
+
+        /**
+         * Entry was used since the last pass of the hand.
+         */
+        private volatile boolean referenced;
+
+        /**
+         * Ctor.
+         *
+         * @param key Key in the map
+         * @param value Value
+         */
+        Entry(final Object key, final Y value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * Mark entry as used, without writing if it's already marked.
+         */
+        public void touch() {
+            if (!this.referenced) {
+                this.referenced = true;
+            }
+        }
+
+        /**
+         * Give the entry a second chance.
+         *
+         * @return TRUE if the entry was used and it's unmarked now
+         */
+        public boolean release() {
+            final boolean used = this.referenced;
+            if (used) {
+                this.referenced = false;
+            }
+            return used;
+        }
+    }
+}
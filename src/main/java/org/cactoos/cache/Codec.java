@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Codec of cached values, which are stored as bytes.
+ *
+ * @param <T> Value type
+ * @since 0.1
+ */
+public interface Codec<T> {
+
+    /**
+     * Encode value to bytes.
+     *
+     * @param value Value
+     * @return Bytes
+     * @throws Exception If fails
+     */
+    byte[] encode(T value) throws Exception;
+
+    /**
+     * Decode value from bytes.
+     *
+     * @param bytes Bytes
+     * @return Value
+     * @throws Exception If fails
+     */
+    T decode(byte[] bytes) throws Exception;
+
+    /**
+     * Codec based on Java serialization.
+     *
+     * @param <T> Value type
+     * @since 0.1
+     */
+    final class Serial<T> implements Codec<T> {
+
+        @Override
+        public byte[] encode(final T value) throws Exception {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ObjectOutputStream obj = new ObjectOutputStream(out)) {
+                obj.writeObject(value);
+            }
+            return out.toByteArray();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T decode(final byte[] bytes) throws Exception {
+            try (ObjectInputStream obj = new ObjectInputStream(
+                new ByteArrayInputStream(bytes)
+            )) {
+                return (T) obj.readObject();
+            }
+        }
+    }
+}
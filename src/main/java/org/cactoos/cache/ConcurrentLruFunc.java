@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Thread-safe LRU cache func.
+ * <p>
+ * Cache is divided into a fixed number of lock stripes, each stripe is
+ * an independent LRU cache with own lock and {@code size / stripes}
+ * capacity, the remainder is spread over first stripes, so total capacity
+ * is exactly {@code size}. There are never more stripes than entries.
+ * So threads working with keys from different stripes never block each
+ * other, but least recently used value is evicted per stripe,
+ * not globally. Origin func is called outside of any lock.
+ * <p>
+ * Func arguments must implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods
+ * to be used as cache keys.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class ConcurrentLruFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * LRU stripes.
+     */
+    private final Stripes<ConcurrentLruFunc.Stripe<X, Y>> stripes;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     */
+    public ConcurrentLruFunc(final Func<X, Y> func, final int size) {
+        this(func, size, Stripes.CONCURRENCY);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     * @param concurrency Estimated number of concurrently updating threads
+     */
+    public ConcurrentLruFunc(final Func<X, Y> func, final int size,
+        final int concurrency) {
+        this(func, size, concurrency, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     * @param concurrency Estimated number of concurrently updating threads
+     * @param stats Stats, must be thread-safe
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ConcurrentLruFunc(final Func<X, Y> func, final int size,
+        final int concurrency, final Stats stats) {
+        this.origin = func;
+        this.stats = stats;
+        this.stripes = new Stripes<>(
+            Math.max(1, Math.min(size, concurrency)),
+            (idx, count) -> new ConcurrentLruFunc.Stripe<>(
+                ConcurrentLruFunc.share(size, idx, count), stats
+            )
+        );
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        final ConcurrentLruFunc.Stripe<X, Y> stripe =
+            this.stripes.stripe(arg);
+        Y val = stripe.get(arg);
+        if (val == null) {
+            val = stripe.put(
+                arg, this.stats.miss(() -> this.origin.apply(arg))
+            );
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Capacity of one stripe.
+     *
+     * @param size Cache size
+     * @param idx Stripe index
+     * @param count Stripes count
+     * @return Capacity
+     */
+    private static int share(final int size, final int idx, final int count) {
+        int share = size / count;
+        if (idx < size % count) {
+            ++share;
+        }
+        return share;
+    }
+
+    /**
+     * LRU cache stripe.
+     *
+     * @param <X> Key type
+     * @param <Y> Value type
+     */
+    private static final class Stripe<X, Y> {
+
+        /**
+         * Values in access order, eldest first.
+         */
+        private final Map<X, Y> map;
+
+        /**
+         * Stripe capacity.
+         */
+        private final int threshold;
+
+        /**
+         * Stats.
+         */
+        private final Stats stats;
+
+        /**
+         * Ctor.
+         *
+         * @param size Stripe capacity
+         * @param stats Stats
+         */
+        Stripe(final int size, final Stats stats) {
+            // @checkstyle MagicNumberCheck (1 line)
+            this.map = new LinkedHashMap<>(size, 0.75F, true);
+            this.threshold = size;
+            this.stats = stats;
+        }
+
+        /**
+         * Get cached value.
+         *
+         * @param key Key
+         * @return Value or null if absent
+         */
+        public Y get(final X key) {
+            synchronized (this.map) {
+                return this.map.get(key);
+            }
+        }
+
+        /**
+         * Put value if absent, evicting least recently used if full.
+         *
+         * @param key Key
+         * @param value Value
+         * @return Value associated with the key
+         */
+        public Y put(final X key, final Y value) {
+            synchronized (this.map) {
+                Y val = this.map.get(key);
+                if (val == null) {
+                    this.map.put(key, value);
+                    val = value;
+                    if (this.map.size() > this.threshold) {
+                        final Iterator<X> eldest =
+                            this.map.keySet().iterator();
+                        eldest.next();
+                        eldest.remove();
+                        this.stats.evicted(Stats.Cause.SIZE);
+                    }
+                }
+                return val;
+            }
+        }
+    }
+}
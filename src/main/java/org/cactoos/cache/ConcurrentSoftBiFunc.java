@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.BiFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Thread-safe version of {@link SoftBiFunc}.
+ * <p>
+ * Cached values are kept in a {@link ConcurrentHashMap}, so lookups
+ * doesn't take locks and misses on different keys never block each other.
+ * Origin func is called outside of any lock, if two threads
+ * miss the same key at the same time, both will call origin func, but only
+ * first result will be cached and returned to both threads.
+ * <p>
+ * Cleared values are removed from the cache using reference queue,
+ * see {@link SoftBiFunc} for details about soft-references lifecycle.
+ *
+ * @param <X> First argument type
+ * @param <Y> Second argument type
+ * @param <Z> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class ConcurrentSoftBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
+
+    /**
+     * Reference map.
+     */
+    private final ConcurrentMap<Map.Entry<X, Y>,
+        SoftEntry<Map.Entry<X, Y>, Z>> map;
+
+    /**
+     * Queue of cleared references.
+     */
+    private final ReferenceQueue<Z> cleared;
+
+    /**
+     * Origin func.
+     */
+    private final BiFunc<X, Y, Z> origin;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     */
+    public ConcurrentSoftBiFunc(final BiFunc<X, Y, Z> func) {
+        this(func, Stripes.CONCURRENCY);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param concurrency Estimated number of concurrently updating threads
+     */
+    public ConcurrentSoftBiFunc(final BiFunc<X, Y, Z> func,
+        final int concurrency) {
+        this(func, concurrency, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param concurrency Estimated number of concurrently updating threads
+     * @param stats Stats, must be thread-safe
+     */
+    public ConcurrentSoftBiFunc(final BiFunc<X, Y, Z> func,
+        final int concurrency, final Stats stats) {
+        this.origin = func;
+        this.stats = stats;
+        // @checkstyle MagicNumberCheck (1 line)
+        this.map = new ConcurrentHashMap<>(16, 0.75F, concurrency);
+        this.cleared = new ReferenceQueue<>();
+    }
+
+    @Override
+    public Z apply(final X first, final Y second) throws Exception {
+        this.expunge();
+        final Map.Entry<X, Y> key = new MapEntry<>(first, second);
+        final SoftEntry<Map.Entry<X, Y>, Z> ref = this.map.get(key);
+        Z val = null;
+        if (ref != null) {
+            val = ref.get();
+        }
+        if (val == null) {
+            val = this.store(
+                key, this.stats.miss(() -> this.origin.apply(first, second))
+            );
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Store new value if there is no alive value in the cache.
+     *
+     * @param key Cache key
+     * @param value New value
+     * @return Value associated with the key
+     */
+    private Z store(final Map.Entry<X, Y> key, final Z value) {
+        final SoftEntry<Map.Entry<X, Y>, Z> fresh =
+            new SoftEntry<>(key, value, this.cleared);
+        Z val = value;
+        while (true) {
+            final SoftEntry<Map.Entry<X, Y>, Z> prev =
+                this.map.putIfAbsent(key, fresh);
+            if (prev == null) {
+                break;
+            }
+            final Z alive = prev.get();
+            if (alive != null) {
+                val = alive;
+                break;
+            }
+            if (this.map.replace(key, prev, fresh)) {
+                break;
+            }
+        }
+        return val;
+    }
+
+    /**
+     * Remove cleared references from the map.
+     */
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        for (Reference<? extends Z> ref = this.cleared.poll(); ref != null;
+            ref = this.cleared.poll()) {
+            final SoftEntry<Map.Entry<X, Y>, Z> entry =
+                (SoftEntry<Map.Entry<X, Y>, Z>) ref;
+            if (this.map.remove(entry.key(), entry)) {
+                this.stats.evicted(Stats.Cause.COLLECTED);
+            }
+        }
+    }
+}
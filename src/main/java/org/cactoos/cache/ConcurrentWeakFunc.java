@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Thread-safe version of {@link WeakFunc}.
+ * <p>
+ * Keys are spread over a fixed number of segments, each segment
+ * has its own table of weak keys, own lock and own queue of collected
+ * keys, so threads working with keys from different segments never block
+ * each other. Each lookup and insertion removes a bounded number of
+ * collected keys from the queue of its segment, see {@link WeakSegment}.
+ * As in {@link WeakFunc}, value is cached while its argument is
+ * reachable, keys are compared by {@link Equivalence} and null arguments
+ * are not cached.
+ * <p>
+ * Origin func is called outside of any lock, if two threads
+ * miss the same key at the same time, both will call origin func, but only
+ * first result will be cached and returned to both threads.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class ConcurrentWeakFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Segments.
+     */
+    private final Stripes<WeakSegment<X, Y>> segments;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Key equivalence.
+     */
+    private final Equivalence<X> equivalence;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     */
+    public ConcurrentWeakFunc(final Func<X, Y> func) {
+        this(func, Stripes.CONCURRENCY);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param concurrency Estimated number of concurrently updating threads
+     */
+    public ConcurrentWeakFunc(final Func<X, Y> func, final int concurrency) {
+        this(func, concurrency, new Stats.None());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param equivalence Key equivalence
+     */
+    public ConcurrentWeakFunc(final Func<X, Y> func,
+        final Equivalence<X> equivalence) {
+        this(func, equivalence, Stripes.CONCURRENCY, new Stats.None());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param concurrency Estimated number of concurrently updating threads
+     * @param stats Stats, must be thread-safe
+     */
+    public ConcurrentWeakFunc(final Func<X, Y> func, final int concurrency,
+        final Stats stats) {
+        this(func, new Equivalence.Equals<>(), concurrency, stats);
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param equivalence Key equivalence
+     * @param concurrency Estimated number of concurrently updating threads
+     * @param stats Stats, must be thread-safe
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ConcurrentWeakFunc(final Func<X, Y> func,
+        final Equivalence<X> equivalence, final int concurrency,
+        final Stats stats) {
+        this.origin = func;
+        this.equivalence = equivalence;
+        this.stats = stats;
+        this.segments = new Stripes<>(
+            concurrency, (idx, count) -> new WeakSegment<>(stats)
+        );
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        Y val = null;
+        WeakSegment<X, Y> segment = null;
+        if (arg != null) {
+            final KeyProbe<X> key = new KeyProbe<>(arg, this.equivalence);
+            segment = this.segments.stripe(key);
+            val = segment.get(key);
+        }
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(arg));
+            if (segment != null) {
+                val = segment.putIfAbsent(arg, this.equivalence, val);
+            }
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+}
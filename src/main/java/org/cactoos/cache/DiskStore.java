@@ -0,0 +1,417 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Persistent store of encoded keys and values in append-only,
+ * memory-mapped segment files.
+ * <p>
+ * Each record is appended to the last segment file of the directory, a new
+ * segment is created when the last one is full. Keys of all records are
+ * read into an in-memory index of record addresses, when the store is used
+ * first time, values are read from the segments lazily, when they are
+ * requested. So after restart previously stored values are available
+ * without recomputing them. A later record of the same key overrides
+ * earlier ones.
+ * <p>
+ * The store is bounded by the count of segments, 16 segments of 64 MiB
+ * by default. Records are not compacted: when a new segment is created
+ * and the count is exceeded, the oldest segment is retired, its file is
+ * deleted and keys, whose latest records are there, are forgotten, so
+ * their values are computed and stored again. A retired segment is
+ * unmapped when its buffer is collected. So disk usage and mapped address
+ * space never exceed {@code count * size} bytes, even when values of the
+ * same keys are stored again and again.
+ * <p>
+ * A segment is forced to the disk when it's full and a new one is
+ * created. Records of the last segment are written to the page cache of
+ * the operating system only: they survive a crash of the process, but
+ * they may be lost on a crash of the operating system or a power loss.
+ * <p>
+ * Each record has a CRC32 checksum of its lengths and bytes, and its key
+ * length is written last, so it works as a commit marker. If the process
+ * crashed in the middle of a write, the torn record fails the check, and
+ * the segment is truncated at it when the store is opened again.
+ *
+ * @param <X> Key type
+ * @param <Y> Value type
+ * @since 0.1
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@NotThreadSafe
+public final class DiskStore<X, Y> {
+
+    /**
+     * Default segment size, 64 MiB.
+     */
+    private static final long SEGMENT = 64L << 20;
+
+    /**
+     * Default count of segments.
+     */
+    private static final int COUNT = 16;
+
+    /**
+     * Record header size: key length, value length and checksum.
+     */
+    private static final int HEADER = 12;
+
+    /**
+     * Directory of segments.
+     */
+    private final Path dir;
+
+    /**
+     * Codec of keys.
+     */
+    private final Codec<X> keys;
+
+    /**
+     * Codec of values.
+     */
+    private final Codec<Y> values;
+
+    /**
+     * Segment size.
+     */
+    private final long size;
+
+    /**
+     * Max count of segments.
+     */
+    private final int count;
+
+    /**
+     * Mapped segments by their numbers.
+     */
+    private final SortedMap<Integer, MappedByteBuffer> segments;
+
+    /**
+     * Addresses of records.
+     */
+    private final Map<X, Long> index;
+
+    /**
+     * Segments are mapped already.
+     */
+    private boolean opened;
+
+    /**
+     * Number of the next segment.
+     */
+    private int next;
+
+    /**
+     * Ctor.
+     *
+     * @param dir Directory of segments
+     * @param keys Codec of keys
+     * @param values Codec of values
+     */
+    public DiskStore(final Path dir, final Codec<X> keys,
+        final Codec<Y> values) {
+        this(dir, keys, values, DiskStore.SEGMENT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The store takes up to 16 segments.
+     *
+     * @param dir Directory of segments
+     * @param keys Codec of keys
+     * @param values Codec of values
+     * @param size Segment size in bytes
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public DiskStore(final Path dir, final Codec<X> keys,
+        final Codec<Y> values, final long size) {
+        this(dir, keys, values, size, DiskStore.COUNT);
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param dir Directory of segments
+     * @param keys Codec of keys
+     * @param values Codec of values
+     * @param size Segment size in bytes
+     * @param count Max count of segments, at least one
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public DiskStore(final Path dir, final Codec<X> keys,
+        final Codec<Y> values, final long size, final int count) {
+        this.dir = dir;
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+        this.count = Math.max(1, count);
+        this.segments = new TreeMap<>();
+        this.index = new HashMap<>(0);
+    }
+
+    /**
+     * Stored value.
+     *
+     * @param key Key
+     * @return Value or null if absent
+     * @throws Exception If fails
+     */
+    public Y get(final X key) throws Exception {
+        this.open();
+        final Long addr = this.index.get(key);
+        Y val = null;
+        if (addr != null) {
+            final ByteBuffer buf = this.segments.get((int) (addr >>> 32))
+                .duplicate();
+            buf.position((int) (long) addr);
+            final int klen = buf.getInt() - 1;
+            final byte[] bytes = new byte[buf.getInt()];
+            buf.position(buf.position() + Integer.BYTES + klen);
+            buf.get(bytes);
+            val = this.values.decode(bytes);
+        }
+        return val;
+    }
+
+    /**
+     * Store a value.
+     *
+     * @param key Key
+     * @param value Value
+     * @throws Exception If fails
+     */
+    public void put(final X key, final Y value) throws Exception {
+        this.open();
+        final byte[] kbytes = this.keys.encode(key);
+        final byte[] vbytes = this.values.encode(value);
+        final ByteBuffer last = this.last(
+            DiskStore.HEADER + kbytes.length + vbytes.length
+        );
+        final int pos = last.position();
+        last.putInt(0);
+        last.putInt(vbytes.length);
+        last.putInt(0);
+        last.put(kbytes);
+        last.put(vbytes);
+        last.putInt(
+            pos + 2 * Integer.BYTES,
+            DiskStore.checksum(
+                kbytes.length + 1, vbytes.length,
+                (ByteBuffer) last.duplicate().position(pos + DiskStore.HEADER)
+            )
+        );
+        last.putInt(pos, kbytes.length + 1);
+        this.index.put(key, (long) this.segments.lastKey() << 32 | pos);
+    }
+
+    /**
+     * Map existing segments and read their keys, once.
+     *
+     * @throws Exception If fails
+     */
+    private void open() throws Exception {
+        if (!this.opened) {
+            Files.createDirectories(this.dir);
+            final List<Path> files = new ArrayList<>(0);
+            try (DirectoryStream<Path> stream =
+                Files.newDirectoryStream(this.dir, "segment-*.dat")) {
+                stream.forEach(files::add);
+            }
+            Collections.sort(files);
+            for (final Path file : files) {
+                final String name = file.getFileName().toString();
+                final int seg = Integer.parseInt(
+                    name.substring(name.indexOf('-') + 1, name.indexOf('.'))
+                );
+                final MappedByteBuffer buf = DiskStore.map(
+                    file, Files.size(file)
+                );
+                this.segments.put(seg, buf);
+                this.scan(seg, buf);
+                this.next = seg + 1;
+            }
+            this.retire();
+            this.opened = true;
+        }
+    }
+
+    /**
+     * Read keys of valid segment records into the index and move segment
+     * position to the end of the last valid record, so a torn record is
+     * overwritten by the next one.
+     *
+     * @param seg Segment number
+     * @param buf Segment
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private void scan(final long seg, final ByteBuffer buf) throws Exception {
+        while (DiskStore.valid(buf)) {
+            final int pos = buf.position();
+            final byte[] kbytes = new byte[buf.getInt() - 1];
+            final int vlen = buf.getInt();
+            buf.position(buf.position() + Integer.BYTES);
+            buf.get(kbytes);
+            buf.position(buf.position() + vlen);
+            this.index.put(this.keys.decode(kbytes), seg << 32 | pos);
+        }
+        if (buf.remaining() >= Integer.BYTES) {
+            buf.putInt(buf.position(), 0);
+        }
+    }
+
+    /**
+     * Is there a complete record with valid checksum at the position?
+     *
+     * @param buf Segment
+     * @return TRUE if there is
+     */
+    private static boolean valid(final ByteBuffer buf) {
+        final int pos = buf.position();
+        boolean valid = false;
+        if (buf.remaining() >= DiskStore.HEADER) {
+            final long klen = buf.getInt(pos) - 1L;
+            final long vlen = buf.getInt(pos + Integer.BYTES);
+            valid = klen >= 0L && vlen >= 0L
+                && DiskStore.HEADER + klen + vlen <= buf.remaining()
+                && buf.getInt(pos + 2 * Integer.BYTES) == DiskStore.checksum(
+                    (int) klen + 1, (int) vlen,
+                    (ByteBuffer) buf.duplicate()
+                        .position(pos + DiskStore.HEADER)
+                );
+        }
+        return valid;
+    }
+
+    /**
+     * Checksum of a record.
+     *
+     * @param klen Key length plus one
+     * @param vlen Value length
+     * @param body Segment positioned at record key
+     * @return CRC32 of lengths, key and value
+     */
+    private static int checksum(final int klen, final int vlen,
+        final ByteBuffer body) {
+        final CRC32 crc = new CRC32();
+        final ByteBuffer head = ByteBuffer.allocate(2 * Integer.BYTES);
+        head.putInt(klen).putInt(vlen).flip();
+        crc.update(head);
+        final ByteBuffer bytes = body.duplicate();
+        bytes.limit(bytes.position() + klen - 1 + vlen);
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Last segment with enough space for a record.
+     *
+     * @param length Record length
+     * @return Segment positioned at its end
+     * @throws IOException If fails
+     */
+    private ByteBuffer last(final int length) throws IOException {
+        MappedByteBuffer last = null;
+        if (!this.segments.isEmpty()) {
+            last = this.segments.get(this.segments.lastKey());
+        }
+        if (last == null || last.remaining() < length) {
+            if (last != null) {
+                last.force();
+            }
+            last = DiskStore.map(
+                this.file(this.next), Math.max(this.size, length)
+            );
+            this.segments.put(this.next, last);
+            ++this.next;
+            this.retire();
+        }
+        return last;
+    }
+
+    /**
+     * Delete the oldest segments and forget their records, while there
+     * are too many segments.
+     *
+     * @throws IOException If fails
+     */
+    private void retire() throws IOException {
+        while (this.segments.size() > this.count) {
+            final long seg = this.segments.firstKey();
+            this.segments.remove(this.segments.firstKey());
+            this.index.values().removeIf(addr -> addr >>> 32 == seg);
+            Files.deleteIfExists(this.file((int) seg));
+        }
+    }
+
+    /**
+     * File of a segment.
+     *
+     * @param seg Segment number
+     * @return Path
+     */
+    private Path file(final int seg) {
+        return this.dir.resolve(String.format("segment-%08d.dat", seg));
+    }
+
+    /**
+     * Map a segment file, it's created if absent.
+     *
+     * @param file File
+     * @param length Length of mapping
+     * @return Mapped buffer
+     * @throws IOException If fails
+     */
+    private static MappedByteBuffer map(final Path file, final long length)
+        throws IOException {
+        try (FileChannel channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0L, length);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Cache func with weak keys and soft values, which doesn't leak when
+ * values reference their keys.
+ * <p>
+ * {@link WeakFunc} holds values strongly, so a value which references
+ * its argument, like a wrapper or a derived view, keeps the argument
+ * reachable forever and it's never removed. This func holds values by
+ * {@link SoftReference}: while memory is enough such value stays cached
+ * as long as its argument is reachable, like in {@link WeakFunc}.
+ * Under memory pressure garbage collector clears soft values, the cycle
+ * is broken and unreachable arguments are collected, then their
+ * entries are removed. If the value was cleared but the argument is still
+ * reachable, the value is computed again on next call.
+ * <p>
+ * It's not a true ephemeron: the cycle is broken <b>only</b> under heap
+ * pressure. While memory is enough, an argument referenced by its
+ * value is never collected, even if nothing else references it, so
+ * its entry and value stay in the heap until garbage collector starts
+ * clearing soft references, right before {@link OutOfMemoryError}
+ * at the latest.
+ * <p>
+ * Keys are compared by {@link Equivalence}, by default it's
+ * {@link Equivalence.Equals}. Null arguments are never cached.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class EphemeronFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Soft values by weak keys.
+     */
+    private final Map<WeakKey<X>, EphemeronFunc.Value<X, Y>> map;
+
+    /**
+     * Queue of collected keys.
+     */
+    private final ReferenceQueue<X> keys;
+
+    /**
+     * Queue of cleared values.
+     */
+    private final ReferenceQueue<Y> values;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Key equivalence.
+     */
+    private final Equivalence<X> equivalence;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     */
+    public EphemeronFunc(final Func<X, Y> func) {
+        this(func, new Equivalence.Equals<>());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param equivalence Key equivalence
+     */
+    public EphemeronFunc(final Func<X, Y> func,
+        final Equivalence<X> equivalence) {
+        this(func, equivalence, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param equivalence Key equivalence
+     * @param stats Stats
+     */
+    public EphemeronFunc(final Func<X, Y> func,
+        final Equivalence<X> equivalence, final Stats stats) {
+        this.origin = func;
+        this.equivalence = equivalence;
+        this.map = new HashMap<>(0);
+        this.keys = new ReferenceQueue<>();
+        this.values = new ReferenceQueue<>();
+        this.stats = stats;
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        this.expunge();
+        Y val = null;
+        if (arg != null) {
+            val = EphemeronFunc.value(
+                this.map.get(new KeyProbe<>(arg, this.equivalence))
+            );
+        }
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(arg));
+            this.store(arg, val);
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Cache the value.
+     *
+     * @param arg Argument, can be null
+     * @param val Value
+     */
+    private void store(final X arg, final Y val) {
+        if (arg != null) {
+            final WeakKey<X> key =
+                new WeakKey<>(arg, this.equivalence, this.keys);
+            this.map.put(key, new EphemeronFunc.Value<>(key, val, this.values));
+        }
+    }
+
+    /**
+     * Remove entries of collected keys and cleared values.
+     */
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        for (Reference<? extends X> ref = this.keys.poll(); ref != null;
+            ref = this.keys.poll()) {
+            if (this.map.remove(ref) != null) {
+                this.stats.evicted(Stats.Cause.COLLECTED);
+            }
+        }
+        for (Reference<? extends Y> ref = this.values.poll(); ref != null;
+            ref = this.values.poll()) {
+            final EphemeronFunc.Value<X, Y> value =
+                (EphemeronFunc.Value<X, Y>) ref;
+            if (this.map.remove(value.key, value)) {
+                this.stats.evicted(Stats.Cause.COLLECTED);
+            }
+        }
+    }
+
+    /**
+     * Value which was not cleared yet.
+     *
+     * @param ref Reference to the value, can be null
+     * @param <Y> Value type
+     * @return Value or null
+     */
+    private static <Y> Y value(final Reference<Y> ref) {
+        Y val = null;
+        if (ref != null) {
+            val = ref.get();
+        }
+        return val;
+    }
+
+    /**
+     * Soft reference to a value, which remembers weak reference to its key.
+     *
+     * @param <X> Key type
+     * @param <Y> Value type
+     */
+    private static final class Value<X, Y> extends SoftReference<Y> {
+
+        /**
+         * Weak key of the entry.
+         */
+        private final WeakKey<X> key;
+
+        /**
+         * Ctor.
+         *
+         * @param key Weak key of the entry
+         * @param value Value
+         * @param queue Queue to register with
+         */
+        Value(final WeakKey<X> key, final Y value,
+            final ReferenceQueue<? super Y> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+/**
+ * Equivalence of cache keys.
+ * <p>
+ * Caches which accept equivalence use it instead of
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} of keys.
+ * It's useful when keys are large and comparing them is expensive:
+ * {@link Equivalence.Identity} compares keys by reference, and custom
+ * equivalence may use hash codes cached inside of keys.
+ *
+ * @param <T> Key type
+ * @since 0.1
+ */
+public interface Equivalence<T> {
+
+    /**
+     * Are two keys equivalent?
+     *
+     * @param first First key, not null
+     * @param second Second key, not null
+     * @return TRUE if they are
+     */
+    boolean equivalent(T first, T second);
+
+    /**
+     * Hash code of the key, equal for equivalent keys.
+     *
+     * @param key Key, not null
+     * @return Hash code
+     */
+    int hash(T key);
+
+    /**
+     * Equivalence by {@link Object#equals(Object)}
+     * and {@link Object#hashCode()}.
+     *
+     * @param <T> Key type
+     * @since 0.1
+     */
+    final class Equals<T> implements Equivalence<T> {
+
+        @Override
+        public boolean equivalent(final T first, final T second) {
+            return first.equals(second);
+        }
+
+        @Override
+        public int hash(final T key) {
+            return key.hashCode();
+        }
+    }
+
+    /**
+     * Equivalence by reference, like in
+     * {@link java.util.IdentityHashMap}.
+     *
+     * @param <T> Key type
+     * @since 0.1
+     */
+    final class Identity<T> implements Equivalence<T> {
+
+        @Override
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        public boolean equivalent(final T first, final T second) {
+            return first == second;
+        }
+
+        @Override
+        public int hash(final T key) {
+            return System.identityHashCode(key);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.BiFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Caching {@link BiFunc} which forgets cached values after
+ * time-to-live period.
+ * <p>
+ * The period starts when value is computed ({@link Expiry#AFTER_WRITE},
+ * by default) or when value was used last time
+ * ({@link Expiry#AFTER_ACCESS}). Expired values are removed from the cache
+ * using timing wheel, so the cost of expiration doesn't depend on
+ * cache size. Time is taken from the {@link Clock}, system UTC clock is used
+ * by default.
+ * <p>
+ * Func arguments must implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods
+ * to be used as cache keys.
+ *
+ * @param <X> First argument type
+ * @param <Y> Second argument type
+ * @param <Z> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class ExpiringBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
+
+    /**
+     * Cached values.
+     */
+    private final ExpiringMap<Map.Entry<X, Y>, Z> map;
+
+    /**
+     * Origin func.
+     */
+    private final BiFunc<X, Y, Z> origin;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live after write
+     */
+    public ExpiringBiFunc(final BiFunc<X, Y, Z> func, final Duration ttl) {
+        this(func, ttl, Expiry.AFTER_WRITE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     */
+    public ExpiringBiFunc(final BiFunc<X, Y, Z> func, final Duration ttl,
+        final Expiry expiry) {
+        this(func, ttl, expiry, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     * @param clock Clock
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ExpiringBiFunc(final BiFunc<X, Y, Z> func, final Duration ttl,
+        final Expiry expiry, final Clock clock) {
+        this(func, ttl, expiry, clock, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     * @param clock Clock
+     * @param stats Stats
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ExpiringBiFunc(final BiFunc<X, Y, Z> func, final Duration ttl,
+        final Expiry expiry, final Clock clock, final Stats stats) {
+        this.origin = func;
+        this.map = new ExpiringMap<>(ttl.toMillis(), expiry, stats);
+        this.clock = clock;
+        this.stats = stats;
+    }
+
+    @Override
+    public Z apply(final X first, final Y second) throws Exception {
+        final Map.Entry<X, Y> key = new MapEntry<>(first, second);
+        Z val = this.map.get(key, this.clock.millis());
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(first, second));
+            this.map.put(key, val, this.clock.millis());
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Caching {@link Func} which forgets cached values after
+ * time-to-live period.
+ * <p>
+ * See {@link ExpiringBiFunc} for details.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class ExpiringFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Cached values.
+     */
+    private final ExpiringMap<X, Y> map;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live after write
+     */
+    public ExpiringFunc(final Func<X, Y> func, final Duration ttl) {
+        this(func, ttl, Expiry.AFTER_WRITE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     */
+    public ExpiringFunc(final Func<X, Y> func, final Duration ttl,
+        final Expiry expiry) {
+        this(func, ttl, expiry, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     * @param clock Clock
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ExpiringFunc(final Func<X, Y> func, final Duration ttl,
+        final Expiry expiry, final Clock clock) {
+        this(func, ttl, expiry, clock, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     * @param clock Clock
+     * @param stats Stats
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ExpiringFunc(final Func<X, Y> func, final Duration ttl,
+        final Expiry expiry, final Clock clock, final Stats stats) {
+        this.origin = func;
+        this.map = new ExpiringMap<>(ttl.toMillis(), expiry, stats);
+        this.clock = clock;
+        this.stats = stats;
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        Y val = this.map.get(arg, this.clock.millis());
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(arg));
+            this.map.put(arg, val, this.clock.millis());
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Map which forgets its entries after time-to-live period.
+ * <p>
+ * Entries are scheduled on a hashed timing wheel of {@link #SLOTS} slots,
+ * one revolution of the wheel is equal to time-to-live period. When the time
+ * goes, only slots which were passed since previous call are swept, so
+ * expiration cost is amortized over calls and doesn't depend on map size.
+ * Time is provided by caller in milliseconds.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @since 0.1
+ */
+final class ExpiringMap<K, V> {
+
+    /**
+     * Number of wheel slots, must be a power of two.
+     */
+    private static final int SLOTS = 64;
+
+    /**
+     * Entries by key.
+     */
+    private final Map<K, ExpiringMap.Node<K, V>> nodes;
+
+    /**
+     * Wheel slots, each slot is a sentinel of circular list.
+     */
+    private final List<ExpiringMap.Node<K, V>> wheel;
+
+    /**
+     * Time to live in milliseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Slot duration in milliseconds.
+     */
+    private final long tick;
+
+    /**
+     * Expiration policy.
+     */
+    private final Expiry expiry;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Last swept tick.
+     */
+    private long cursor;
+
+    /**
+     * Ctor.
+     *
+     * @param ttl Time to live in milliseconds
+     * @param expiry Expiration policy
+     * @param stats Stats
+     */
+    ExpiringMap(final long ttl, final Expiry expiry, final Stats stats) {
+        this.nodes = new HashMap<>(0);
+        this.wheel = ExpiringMap.sentinels();
+        this.ttl = ttl;
+        this.tick = Math.max(1L, ttl / ExpiringMap.SLOTS);
+        this.expiry = expiry;
+        this.stats = stats;
+        this.cursor = Long.MIN_VALUE;
+    }
+
+    /**
+     * Value which is not expired yet.
+     *
+     * @param key Key
+     * @param now Current time
+     * @return Value or null if absent or expired
+     */
+    public V get(final K key, final long now) {
+        this.advance(now);
+        final ExpiringMap.Node<K, V> node = this.nodes.get(key);
+        V val = null;
+        if (node != null && node.deadline <= now) {
+            this.remove(node);
+        } else if (node != null) {
+            val = this.touch(node, now);
+        }
+        return val;
+    }
+
+    /**
+     * Put new value.
+     *
+     * @param key Key
+     * @param value Value
+     * @param now Current time
+     */
+    public void put(final K key, final V value, final long now) {
+        final ExpiringMap.Node<K, V> node = new ExpiringMap.Node<>(key, value);
+        final ExpiringMap.Node<K, V> old = this.nodes.put(key, node);
+        if (old != null) {
+            old.unlink();
+        }
+        this.schedule(node, now);
+    }
+
+    /**
+     * Access alive node.
+     *
+     * @param node Node
+     * @param now Current time
+     * @return Node value
+     */
+    private V touch(final ExpiringMap.Node<K, V> node, final long now) {
+        if (this.expiry == Expiry.AFTER_ACCESS) {
+            this.schedule(node, now);
+        }
+        return node.value;
+    }
+
+    /**
+     * Move the node to its deadline slot.
+     *
+     * @param node Node
+     * @param now Current time
+     */
+    private void schedule(final ExpiringMap.Node<K, V> node, final long now) {
+        node.unlink();
+        node.deadline = now + this.ttl;
+        node.link(this.slot(Math.floorDiv(node.deadline, this.tick)));
+    }
+
+    /**
+     * Sweep slots passed since last call.
+     *
+     * @param now Current time
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private void advance(final long now) {
+        final long target = Math.floorDiv(now, this.tick);
+        for (long idx = Math.max(this.cursor, target - ExpiringMap.SLOTS) + 1;
+            idx <= target; ++idx) {
+            final ExpiringMap.Node<K, V> head = this.slot(idx);
+            ExpiringMap.Node<K, V> node = head.next;
+            while (node != head) {
+                final ExpiringMap.Node<K, V> next = node.next;
+                if (node.deadline <= now) {
+                    this.remove(node);
+                }
+                node = next;
+            }
+        }
+        this.cursor = Math.max(this.cursor, target);
+    }
+
+    /**
+     * Remove expired node.
+     *
+     * @param node Node
+     */
+    private void remove(final ExpiringMap.Node<K, V> node) {
+        node.unlink();
+        this.nodes.remove(node.key);
+        this.stats.evicted(Stats.Cause.EXPIRED);
+    }
+
+    /**
+     * Slot of the tick.
+     *
+     * @param idx Tick
+     * @return Slot sentinel
+     */
+    private ExpiringMap.Node<K, V> slot(final long idx) {
+        return this.wheel.get((int) idx & ExpiringMap.SLOTS - 1);
+    }
+
+    /**
+     * Create empty wheel slots.
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return Slots
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static <K, V> List<ExpiringMap.Node<K, V>> sentinels() {
+        final List<ExpiringMap.Node<K, V>> list =
+            new ArrayList<>(ExpiringMap.SLOTS);
+        for (int idx = 0; idx < ExpiringMap.SLOTS; ++idx) {
+            list.add(new ExpiringMap.Node<>(null, null));
+        }
+        return list;
+    }
+
+    /**
+     * Wheel slot list node.
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    private static final class Node<K, V> {
+
+        /**
+         * Key.
+         */
+        private final K key;
+
+        /**
+         * Value.
+         */
+        private final V value;
+
+        /**
+         * Expiration time.
+         */
+        private long deadline;
+
+        /**
+         * Previous node.
+         */
+        private ExpiringMap.Node<K, V> prev;
+
+        /**
+         * Next node.
+         */
+        private ExpiringMap.Node<K, V> next;
+
+        /**
+         * Ctor.
+         *
+         * @param key Key
+         * @param value Value
+         */
+        Node(final K key, final V value) {
+            this.key = key;
+            this.value = value;
+            this.prev = this;
+            this.next = this;
+        }
+
+        /**
+         * Link this node before the head.
+         *
+         * @param head Slot sentinel
+         */
+        public void link(final ExpiringMap.Node<K, V> head) {
+            this.prev = head.prev;
+            this.next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        /**
+         * Unlink this node from its slot.
+         */
+        public void unlink() {
+            this.prev.next = this.next;
+            this.next.prev = this.prev;
+            this.prev = this;
+            this.next = this;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Scalar;
+
+/**
+ * Scalar implementation based on {@link ExpiringFunc}, it computes
+ * the value again after time-to-live period.
+ *
+ * @param <T> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class ExpiringScalar<T> implements Scalar<T> {
+
+    /**
+     * Dummy key for {@link ExpiringFunc} argument.
+     */
+    private static final Object KEY = new Object();
+
+    /**
+     * Origin func.
+     */
+    private final ExpiringFunc<Object, T> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param scalar Origin scalar
+     * @param ttl Time to live after write
+     */
+    public ExpiringScalar(final Scalar<T> scalar, final Duration ttl) {
+        this(scalar, ttl, Expiry.AFTER_WRITE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param scalar Origin scalar
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     */
+    public ExpiringScalar(final Scalar<T> scalar, final Duration ttl,
+        final Expiry expiry) {
+        this(scalar, ttl, expiry, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param scalar Origin scalar
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     * @param clock Clock
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ExpiringScalar(final Scalar<T> scalar, final Duration ttl,
+        final Expiry expiry, final Clock clock) {
+        this(scalar, ttl, expiry, clock, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param scalar Origin scalar
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     * @param clock Clock
+     * @param stats Stats
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ExpiringScalar(final Scalar<T> scalar, final Duration ttl,
+        final Expiry expiry, final Clock clock, final Stats stats) {
+        this.origin = new ExpiringFunc<>(
+            ignored -> scalar.value(), ttl, expiry, clock, stats
+        );
+    }
+
+    @Override
+    public T value() throws Exception {
+        return this.origin.apply(ExpiringScalar.KEY);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Text;
+import org.cactoos.scalar.IoCheckedScalar;
+
+/**
+ * Text implementation based on {@link ExpiringScalar}, it reads
+ * the text again after time-to-live period.
+ *
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class ExpiringText implements Text {
+
+    /**
+     * Origin scalar.
+     */
+    private final ExpiringScalar<String> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param text Origin text
+     * @param ttl Time to live after write
+     */
+    public ExpiringText(final Text text, final Duration ttl) {
+        this(text, ttl, Expiry.AFTER_WRITE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param text Origin text
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     */
+    public ExpiringText(final Text text, final Duration ttl,
+        final Expiry expiry) {
+        this(text, ttl, expiry, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param text Origin text
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     * @param clock Clock
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ExpiringText(final Text text, final Duration ttl,
+        final Expiry expiry, final Clock clock) {
+        this(text, ttl, expiry, clock, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param text Origin text
+     * @param ttl Time to live
+     * @param expiry Expiration policy
+     * @param clock Clock
+     * @param stats Stats
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ExpiringText(final Text text, final Duration ttl,
+        final Expiry expiry, final Clock clock, final Stats stats) {
+        this.origin = new ExpiringScalar<>(
+            text::asString, ttl, expiry, clock, stats
+        );
+    }
+
+    @Override
+    public String asString() throws IOException {
+        return new IoCheckedScalar<>(this.origin).value();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Objects;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Count-Min sketch of 4-bit access frequency counters.
+ * <p>
+ * Each key is counted in four counters, its frequency is the minimum
+ * of them. Counters are packed sixteen per long and the table has a fixed
+ * size, so memory used for frequency tracking doesn't depend on number of
+ * distinct keys. After a sample of increments all counters are halved,
+ * so old popularity fades away.
+ *
+ * @since 0.1
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@NotThreadSafe
+final class FrequencySketch {
+
+    /**
+     * Max counter value.
+     */
+    private static final long MAX = 15L;
+
+    /**
+     * Mask of halved counters.
+     */
+    private static final long HALF = 0x7777777777777777L;
+
+    /**
+     * Number of counters per key.
+     */
+    private static final int DEPTH = 4;
+
+    /**
+     * Counters.
+     */
+    private final long[] table;
+
+    /**
+     * Number of increments between halvings.
+     */
+    private final int sample;
+
+    /**
+     * Increments since last halving.
+     */
+    private int additions;
+
+    /**
+     * Ctor.
+     *
+     * @param size Expected number of frequently used keys
+     */
+    FrequencySketch(final int size) {
+        this.table = new long[
+            Integer.highestOneBit(Math.max(1, size) - 1 << 1 | 1)
+        ];
+        this.sample = Math.max(1, size) * 10;
+    }
+
+    /**
+     * Count key access.
+     *
+     * @param key Key
+     */
+    public void increment(final Object key) {
+        final int hash = FrequencySketch.spread(Objects.hashCode(key));
+        boolean added = false;
+        for (int idx = 0; idx < FrequencySketch.DEPTH; ++idx) {
+            final int counter = this.counter(hash, idx);
+            final int slot = counter >>> 4;
+            final int shift = (counter & 15) << 2;
+            if ((this.table[slot] >>> shift & FrequencySketch.MAX)
+                != FrequencySketch.MAX) {
+                this.table[slot] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added) {
+            ++this.additions;
+            if (this.additions == this.sample) {
+                this.halve();
+            }
+        }
+    }
+
+    /**
+     * Estimated access frequency of a key.
+     *
+     * @param key Key
+     * @return Frequency from 0 to 15
+     */
+    public int frequency(final Object key) {
+        final int hash = FrequencySketch.spread(Objects.hashCode(key));
+        long freq = FrequencySketch.MAX;
+        for (int idx = 0; idx < FrequencySketch.DEPTH; ++idx) {
+            final int counter = this.counter(hash, idx);
+            freq = Math.min(
+                freq,
+                this.table[counter >>> 4] >>> ((counter & 15) << 2)
+                    & FrequencySketch.MAX
+            );
+        }
+        return (int) freq;
+    }
+
+    /**
+     * Halve all counters.
+     */
+    private void halve() {
+        for (int idx = 0; idx < this.table.length; ++idx) {
+            this.table[idx] = this.table[idx] >>> 1 & FrequencySketch.HALF;
+        }
+        this.additions >>>= 1;
+    }
+
+    /**
+     * Index of a key counter.
+     *
+     * @param hash Key hash
+     * @param row Counter number
+     * @return Counter index
+     */
+    private int counter(final int hash, final int row) {
+        final long mixed = (hash + row * 0x9E3779B9L) * 0xBF58476D1CE4E5B9L;
+        return (int) (mixed >>> 32) & (this.table.length << 4) - 1;
+    }
+
+    /**
+     * Spread bits of a hash code.
+     *
+     * @param hash Hash code
+     * @return Spread hash
+     */
+    private static int spread(final int hash) {
+        final int mixed = hash * 0x85EBCA6B;
+        return mixed ^ mixed >>> 16;
+    }
+}
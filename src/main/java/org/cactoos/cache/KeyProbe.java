@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+/**
+ * Lookup key for maps keyed by {@link WeakKey}.
+ * <p>
+ * It's equal to a weak key of an equivalent alive key, and the weak key
+ * is equal to it, see {@link ReferentKey}. But it's a plain
+ * object and not a {@link java.lang.ref.Reference}, so lookups don't
+ * create references, which garbage collector has to discover and process,
+ * and the probe may be eliminated by escape analysis.
+ *
+ * @param <T> Key type
+ * @since 0.1
+ */
+final class KeyProbe<T> implements ReferentKey<T> {
+
+    /**
+     * Key.
+     */
+    private final T key;
+
+    /**
+     * Equivalence.
+     */
+    private final Equivalence<T> equivalence;
+
+    /**
+     * Hash code.
+     */
+    private final int hash;
+
+    /**
+     * Ctor.
+     *
+     * @param key Key, not null
+     * @param equivalence Equivalence
+     */
+    KeyProbe(final T key, final Equivalence<T> equivalence) {
+        this.key = key;
+        this.equivalence = equivalence;
+        this.hash = equivalence.hash(key);
+    }
+
+    @Override
+    public T referent() {
+        return this.key;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(final Object other) {
+        return this == other || other instanceof ReferentKey
+            && this.hash == other.hashCode()
+            && this.same((ReferentKey<T>) other);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * The other key is alive and equivalent to this one.
+     *
+     * @param other Other key
+     * @return TRUE if it is
+     */
+    private boolean same(final ReferentKey<T> other) {
+        final T theirs = other.referent();
+        return theirs != null && this.equivalence.equivalent(this.key, theirs);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Ordered open-addressing hash table of primitive long keys.
+ * <p>
+ * Keys, values and order links are kept in parallel arrays, so there are
+ * no entry objects and keys are never boxed. Collisions are resolved by
+ * linear probing, removal shifts following entries back, so there are no
+ * tombstones. Entries are linked in insertion order, or in access order
+ * if requested, like in {@link java.util.LinkedHashMap}.
+ *
+ * @param <V> Value type
+ * @since 0.1
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@NotThreadSafe
+@SuppressWarnings("unchecked")
+final class LongTable<V> {
+
+    /**
+     * Move entries to the end on access.
+     */
+    private final boolean access;
+
+    /**
+     * Keys.
+     */
+    private long[] keys;
+
+    /**
+     * Values, null for empty slots.
+     */
+    private Object[] vals;
+
+    /**
+     * Order of entries.
+     */
+    private SlotOrder order;
+
+    /**
+     * Number of entries.
+     */
+    private int count;
+
+    /**
+     * Ctor.
+     *
+     * @param expected Expected number of entries
+     * @param access Access order instead of insertion order
+     */
+    LongTable(final int expected, final boolean access) {
+        this.access = access;
+        this.keys = new long[LongTable.capacity(expected)];
+        this.vals = new Object[this.keys.length];
+        this.order = new SlotOrder(this.keys.length);
+    }
+
+    /**
+     * Value of a key.
+     *
+     * @param key Key
+     * @return Value or null if absent
+     */
+    public V get(final long key) {
+        final int slot = this.probe(key);
+        final V val = (V) this.vals[slot];
+        if (val != null && this.access) {
+            this.order.unlink(slot);
+            this.order.link(slot);
+        }
+        return val;
+    }
+
+    /**
+     * Put a value.
+     *
+     * @param key Key
+     * @param value Value, not null
+     */
+    public void put(final long key, final V value) {
+        if (value == null) {
+            throw new IllegalArgumentException(
+                String.format("Null value of key %d", key)
+            );
+        }
+        int slot = this.probe(key);
+        if (this.vals[slot] == null) {
+            if ((this.count + 1) * 4 > this.keys.length * 3) {
+                this.grow();
+                slot = this.probe(key);
+            }
+            this.keys[slot] = key;
+            this.order.link(slot);
+            ++this.count;
+        } else if (this.access) {
+            this.order.unlink(slot);
+            this.order.link(slot);
+        }
+        this.vals[slot] = value;
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @param key Key
+     * @return Removed value or null if absent
+     */
+    public V remove(final long key) {
+        final int slot = this.probe(key);
+        final V val = (V) this.vals[slot];
+        if (val != null) {
+            this.delete(slot);
+        }
+        return val;
+    }
+
+    /**
+     * Eldest key.
+     *
+     * @return Key
+     */
+    public long eldest() {
+        if (this.count == 0) {
+            throw new IllegalStateException("Table is empty");
+        }
+        return this.keys[this.order.first()];
+    }
+
+    /**
+     * Number of entries.
+     *
+     * @return Size
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Slot of the key or empty slot where it should be placed.
+     *
+     * @param key Key
+     * @return Slot
+     */
+    private int probe(final long key) {
+        final int mask = this.keys.length - 1;
+        int slot = LongTable.home(key, mask);
+        while (this.vals[slot] != null && this.keys[slot] != key) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Delete entry and shift following entries back.
+     *
+     * @param slot Slot of the entry
+     */
+    @SuppressWarnings("PMD.NullAssignment")
+    private void delete(final int slot) {
+        final int mask = this.keys.length - 1;
+        this.order.unlink(slot);
+        this.vals[slot] = null;
+        --this.count;
+        int hole = slot;
+        for (int idx = slot + 1 & mask; this.vals[idx] != null;
+            idx = idx + 1 & mask) {
+            final int home = LongTable.home(this.keys[idx], mask);
+            if ((idx - home & mask) >= (idx - hole & mask)) {
+                this.keys[hole] = this.keys[idx];
+                this.vals[hole] = this.vals[idx];
+                this.vals[idx] = null;
+                this.order.move(idx, hole);
+                hole = idx;
+            }
+        }
+    }
+
+    /**
+     * Double the capacity, keeping the order.
+     */
+    private void grow() {
+        final long[] okeys = this.keys;
+        final Object[] ovals = this.vals;
+        final SlotOrder old = this.order;
+        this.keys = new long[okeys.length << 1];
+        this.vals = new Object[this.keys.length];
+        this.order = new SlotOrder(this.keys.length);
+        for (int idx = old.first(); idx != SlotOrder.NONE;
+            idx = old.after(idx)) {
+            final int slot = this.probe(okeys[idx]);
+            this.keys[slot] = okeys[idx];
+            this.vals[slot] = ovals[idx];
+            this.order.link(slot);
+        }
+    }
+
+    /**
+     * Home slot of a key.
+     *
+     * @param key Key
+     * @param mask Mask of table capacity
+     * @return Slot
+     */
+    private static int home(final long key, final int mask) {
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ mixed >>> 32) & mask;
+    }
+
+    /**
+     * Capacity for expected number of entries, with load factor 0.75.
+     *
+     * @param expected Expected number of entries
+     * @return Power of two capacity
+     */
+    private static int capacity(final int expected) {
+        final int min = Math.max(2, expected + expected / 3 + 1);
+        return Integer.highestOneBit(min - 1) << 1;
+    }
+}
@@ -24,22 +24,23 @@
  */
 package org.cactoos.cache;
 
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.concurrent.NotThreadSafe;
 import org.cactoos.BiFunc;
-import org.cactoos.Func;
-import org.cactoos.collection.Sorted;
 import org.cactoos.map.MapEntry;
-import org.cactoos.scalar.ItemAt;
 
 /**
  * Func implementation which uses LRU (least Recently Used) cache to
- * store func results. This Func keeps in cache only most used values and
- * clear least used if cache is full. Cache size can be configured via
- * {@code size} constructor parameter: {@code new LruBiFunc(10, func)}.
+ * store func results. This Func keeps in cache only most recently used values
+ * and clear least recently used if cache is full. Cache size can be
+ * configured via {@code size} constructor parameter:
+ * {@code new LruBiFunc(func, 10)}.
+ * <p>
+ * Values are kept by strong references in access order list, so cached
+ * value is never recomputed until it's evicted, and both lookup and
+ * eviction take constant time.
  * <p>
  * Func arguments must implement
  * {@link Object#equals(Object)} and {@link Object#hashCode()} methods
@@ -49,25 +50,26 @@ import org.cactoos.scalar.ItemAt;
  * @param <Y> First argument type
  * @param <Z> Result type
  * @since 0.1
- * @todo #5:30min Add LRU func (Func and BiFunc) tests, which should cover
- *  that cached values are most used by consumer and least used can be cleared
- *  when cache is full.
  */
 @NotThreadSafe
 public final class LruBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
 
     /**
-     * Cache.
+     * Cached values in access order, eldest first.
      */
-    private final Map<Map.Entry<X, Y>, AtomicInteger> hits;
+    private final Map<Map.Entry<X, Y>, Z> hits;
     /**
      * Origin func.
      */
-    private final Func<Map.Entry<X, Y>, Z> origin;
+    private final BiFunc<X, Y, Z> origin;
     /**
      * Threshold (max cache size).
      */
     private final int threshold;
+    /**
+     * Stats.
+     */
+    private final Stats stats;
 
     /**
      * Ctor.
@@ -75,70 +77,41 @@ public final class LruBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      * @param size Cache size
      */
     public LruBiFunc(final BiFunc<X, Y, Z> func, final int size) {
-        this.hits = new HashMap<>(size);
+        this(func, size, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     * @param func Origin func
+     * @param size Cache size
+     * @param stats Stats
+     */
+    public LruBiFunc(final BiFunc<X, Y, Z> func, final int size,
+        final Stats stats) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this.hits = new LinkedHashMap<>(size, 0.75F, true);
         this.threshold = size;
-        this.origin = new WeakFunc<>(new LruBiFunc.WeakWrap<>(func));
+        this.origin = func;
+        this.stats = stats;
     }
 
     @Override
     public Z apply(final X first, final Y second) throws Exception {
         final Map.Entry<X, Y> key = new MapEntry<>(first, second);
-        final Z val;
-        if (this.hits.containsKey(key)) {
-            this.hits.get(key).incrementAndGet();
-            val = this.origin.apply(key);
-        } else {
-            if (this.hits.size() >= this.threshold) {
-                this.hits.remove(this.loser());
+        Z val = this.hits.get(key);
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(first, second));
+            this.hits.put(key, val);
+            if (this.hits.size() > this.threshold) {
+                final Iterator<Map.Entry<X, Y>> eldest =
+                    this.hits.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                this.stats.evicted(Stats.Cause.SIZE);
             }
-            this.hits.put(key, new AtomicInteger(1));
-            val = this.origin.apply(key);
+        } else {
+            this.stats.hit();
         }
         return val;
     }
-
-    /**
-     * Hits loser (entry with lowest hits).
-     *
-     * @return Hits key
-     * @throws Exception If fails
-     */
-    private Map.Entry<X, Y> loser() throws Exception {
-        return new ItemAt<>(
-            new Sorted<>(
-                Comparator.comparingInt(left -> left.getValue().get()),
-                this.hits.entrySet()
-            )
-        ).value().getKey();
-    }
-
-    /**
-     * Decorator for {@link BiFunc} to be {@link Func}.
-     *
-     * @param <X> First argument type
-     * @param <Y> Second argument type
-     * @param <Z> Result type
-     */
-    private static final class WeakWrap<X, Y, Z> implements
-        Func<Map.Entry<X, Y>, Z> {
-
-        /**
-         * Origin func to wrap.
-         */
-        private final BiFunc<X, Y, Z> origin;
-
-        /**
-         * Ctor.
-         *
-         * @param func Origin func
-         */
-        private WeakWrap(final BiFunc<X, Y, Z> func) {
-            this.origin = func;
-        }
-
-        @Override
-        public Z apply(final Map.Entry<X, Y> input) throws Exception {
-            return this.origin.apply(input.getKey(), input.getValue());
-        }
-    }
 }
@@ -24,13 +24,18 @@
  */
 package org.cactoos.cache;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.concurrent.NotThreadSafe;
-import org.cactoos.BiFunc;
 import org.cactoos.Func;
 
 /**
- * Func implementation based on {@link LruBiFunc} which caches most
- * used func results.
+ * Func implementation which caches most recently used func results.
+ * <p>
+ * It keeps values the same way as {@link LruBiFunc}, by strong references,
+ * but it uses func argument as a cache key directly, so cache hit doesn't
+ * allocate any objects.
  *
  * @param <X> Argument type
  * @param <Y> Result type
@@ -40,14 +45,24 @@ import org.cactoos.Func;
 public final class LruFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Dummy key for {@link LruBiFunc} argument.
+     * Cached values in access order, eldest first.
      */
-    private static final Object KEY = new Object();
+    private final Map<X, Y> hits;
 
     /**
-     * Origin LRI func.
+     * Origin func.
      */
-    private final LruBiFunc<Object, X, Y> origin;
+    private final Func<X, Y> origin;
+
+    /**
+     * Threshold (max cache size).
+     */
+    private final int threshold;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
 
     /**
      * Ctor.
@@ -55,38 +70,38 @@ public final class LruFunc<X, Y> implements Func<X, Y> {
      * @param size Cache size
      */
     public LruFunc(final Func<X, Y> func, final int size) {
-        this.origin = new LruBiFunc<>(new LruFunc.FuncWrap<>(func), size);
-    }
-
-    @Override
-    public Y apply(final X input) throws Exception {
-        return this.origin.apply(LruFunc.KEY, input);
+        this(func, size, new Stats.None());
     }
 
     /**
-     * Decorator for {@link Func} to be {@link BiFunc}.
-     *
-     * @param <X> Argument type
-     * @param <Y> Result type
+     * Primary ctor.
+     * @param func Origin func
+     * @param size Cache size
+     * @param stats Stats
      */
-    private static final class FuncWrap<X, Y> implements BiFunc<Object, X, Y> {
-
-        /**
-         * Origin func.
-         */
-        private final Func<X, Y> origin;
-
-        /**
-         * Ctor.
-         * @param func Origin func
-         */
-        private FuncWrap(final Func<X, Y> func) {
-            this.origin = func;
-        }
+    public LruFunc(final Func<X, Y> func, final int size, final Stats stats) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this.hits = new LinkedHashMap<>(size, 0.75F, true);
+        this.threshold = size;
+        this.origin = func;
+        this.stats = stats;
+    }
 
-        @Override
-        public Y apply(final Object first, final X second) throws Exception {
-            return this.origin.apply(second);
+    @Override
+    public Y apply(final X input) throws Exception {
+        Y val = this.hits.get(input);
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(input));
+            this.hits.put(input, val);
+            if (this.hits.size() > this.threshold) {
+                final Iterator<X> eldest = this.hits.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                this.stats.evicted(Stats.Cause.SIZE);
+            }
+        } else {
+            this.stats.hit();
         }
+        return val;
     }
 }
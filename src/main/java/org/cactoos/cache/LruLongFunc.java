@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * LRU cache of func results keyed by primitive long arguments.
+ * <p>
+ * Values are kept in {@link LongTable}, an open-addressing table with
+ * parallel arrays of keys, values and order links, so neither lookups nor
+ * cached entries box keys or allocate entry objects. Values are kept by
+ * strong references, least recently used value is evicted when the cache
+ * is full.
+ *
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class LruLongFunc<Y> implements LongFunc<Y> {
+
+    /**
+     * Cached values in access order.
+     */
+    private final LongTable<Y> table;
+
+    /**
+     * Origin func.
+     */
+    private final LongFunc<Y> origin;
+
+    /**
+     * Threshold (max cache size).
+     */
+    private final int threshold;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     */
+    public LruLongFunc(final LongFunc<Y> func, final int size) {
+        this(func, size, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     * @param stats Stats
+     */
+    public LruLongFunc(final LongFunc<Y> func, final int size,
+        final Stats stats) {
+        this.origin = func;
+        this.threshold = size;
+        this.stats = stats;
+        this.table = new LongTable<>(size + 1, true);
+    }
+
+    @Override
+    public Y apply(final long arg) throws Exception {
+        Y val = this.table.get(arg);
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(arg));
+            this.store(arg, val);
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Cache the value, evicting least recently used one if full.
+     * Null values are not cached.
+     *
+     * @param arg Argument
+     * @param val Value, can be null
+     */
+    private void store(final long arg, final Y val) {
+        if (val != null) {
+            this.table.put(arg, val);
+        }
+        if (this.table.size() > this.threshold) {
+            this.table.remove(this.table.eldest());
+            this.stats.evicted(Stats.Cause.SIZE);
+        }
+    }
+}
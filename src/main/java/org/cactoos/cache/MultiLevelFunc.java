@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Thread-safe cache func with three levels of cached values.
+ * <p>
+ * L1 is a tiny LRU cache of each thread, it's never shared, so hot keys
+ * are served without locks and without touching shared state.
+ * L2 is a shared LRU cache with strong values, and L3 is a shared
+ * unbounded cache with soft values, which takes values evicted from L2.
+ * <p>
+ * A lookup goes down the levels: a value found in L3 is promoted back
+ * to L2, a value found in L2 or L3 is copied to L1 of current thread.
+ * A value is stored in exactly one of L2 and L3, L1 holds only extra
+ * references to the same values, so a cached value is never stored twice
+ * and keys are used as is, without wrappers. Origin func is called
+ * outside of any lock, so threads which miss the same key at once may
+ * all compute it, then the first stored value is returned to all of them
+ * and other values are dropped. Decorate origin func with
+ * {@link SingleFlightFunc} to compute each value once. Null values are
+ * never cached.
+ * <p>
+ * L1 caches are kept by a {@link ThreadLocal}, so each thread, which ever
+ * called this func, holds up to {@code local} values strongly while both
+ * the thread and this func are alive, even after the values are evicted
+ * from L2 and cleared from L3. With a pool of long living threads it's up
+ * to {@code local} values per thread of the pool, so L1 must be tiny.
+ * When the func is not used anymore, L1 caches of alive threads are
+ * released only after the func is collected and the threads use other
+ * thread locals.
+ * <p>
+ * Func arguments must implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods
+ * to be used as cache keys.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class MultiLevelFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * L1 caches of threads, in access order.
+     */
+    private final ThreadLocal<Map<X, Y>> first;
+
+    /**
+     * L2 cache in access order, guarded by {@link #mutex}.
+     */
+    private final Map<X, Y> second;
+
+    /**
+     * L3 cache, guarded by {@link #mutex}.
+     */
+    private final SoftMap<X, Y> third;
+
+    /**
+     * Lock of shared levels.
+     */
+    private final Object mutex;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Size of L1 cache.
+     */
+    private final int local;
+
+    /**
+     * Size of L2 cache.
+     */
+    private final int shared;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param local Size of L1 cache of each thread
+     * @param shared Size of shared L2 cache
+     */
+    public MultiLevelFunc(final Func<X, Y> func, final int local,
+        final int shared) {
+        this(func, local, shared, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param local Size of L1 cache of each thread
+     * @param shared Size of shared L2 cache
+     * @param stats Stats, must be thread-safe
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public MultiLevelFunc(final Func<X, Y> func, final int local,
+        final int shared, final Stats stats) {
+        // @checkstyle MagicNumberCheck (2 lines)
+        this.first = ThreadLocal.withInitial(
+            () -> new LinkedHashMap<>(16, 0.75F, true)
+        );
+        // @checkstyle MagicNumberCheck (1 line)
+        this.second = new LinkedHashMap<>(16, 0.75F, true);
+        this.third = new SoftMap<>(null, stats);
+        this.mutex = new Object();
+        this.origin = func;
+        this.local = local;
+        this.shared = shared;
+        this.stats = stats;
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        final Map<X, Y> cache = this.first.get();
+        Y val = cache.get(arg);
+        if (val == null) {
+            val = this.load(arg);
+            this.remember(cache, arg, val);
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Put the value to L1 of current thread, if it's not null, and evict
+     * the eldest value of L1, if it's full.
+     *
+     * @param cache L1 cache of current thread
+     * @param arg Argument
+     * @param val Value, can be null
+     */
+    private void remember(final Map<X, Y> cache, final X arg, final Y val) {
+        if (val != null) {
+            cache.put(arg, val);
+            if (cache.size() > this.local) {
+                final Iterator<X> eldest = cache.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Find the value in shared levels or compute it.
+     *
+     * @param arg Argument
+     * @return Value
+     * @throws Exception If origin func fails
+     */
+    private Y load(final X arg) throws Exception {
+        Y val;
+        synchronized (this.mutex) {
+            val = this.find(arg);
+        }
+        if (val == null) {
+            final Y fresh = this.stats.miss(() -> this.origin.apply(arg));
+            synchronized (this.mutex) {
+                val = this.find(arg);
+                if (val == null && fresh != null) {
+                    this.promote(arg, fresh);
+                    val = fresh;
+                }
+            }
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Find the value in L2 or L3, promote it to L2 if found in L3.
+     * Must be called under the lock.
+     *
+     * @param arg Argument
+     * @return Value or null if absent
+     */
+    private Y find(final X arg) {
+        Y val = this.second.get(arg);
+        if (val == null) {
+            val = this.third.remove(arg);
+            if (val != null) {
+                this.promote(arg, val);
+            }
+        }
+        return val;
+    }
+
+    /**
+     * Put the value to L2 and demote the eldest value of L2 to L3,
+     * if L2 is full. Must be called under the lock.
+     *
+     * @param arg Argument
+     * @param val Value
+     */
+    private void promote(final X arg, final Y val) {
+        this.second.put(arg, val);
+        if (this.second.size() > this.shared) {
+            final Iterator<Map.Entry<X, Y>> eldest =
+                this.second.entrySet().iterator();
+            final Map.Entry<X, Y> entry = eldest.next();
+            this.third.put(entry.getKey(), entry.getValue());
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.BiFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * BiFunc decorator based on {@link NegativeFunc}, which remembers null
+ * results and exceptions for a short time-to-live period.
+ *
+ * @param <X> First argument type
+ * @param <Y> Second argument type
+ * @param <Z> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class NegativeBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
+
+    /**
+     * Origin func.
+     */
+    private final NegativeFunc<Map.Entry<X, Y>, Z> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live of negative results
+     */
+    public NegativeBiFunc(final BiFunc<X, Y, Z> func, final Duration ttl) {
+        this(func, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live of negative results
+     * @param clock Clock
+     */
+    public NegativeBiFunc(final BiFunc<X, Y, Z> func, final Duration ttl,
+        final Clock clock) {
+        this.origin = new NegativeFunc<>(
+            key -> func.apply(key.getKey(), key.getValue()), ttl, clock
+        );
+    }
+
+    @Override
+    public Z apply(final X first, final Y second) throws Exception {
+        return this.origin.apply(new MapEntry<>(first, second));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Func decorator which remembers null results and exceptions for a short
+ * time-to-live period (negative caching).
+ * <p>
+ * Caches of this package treat null results as misses and never cache
+ * exceptions, so lookups of absent values go to origin func every time.
+ * This decorator should be placed in front of any cache:
+ * {@code new NegativeFunc<>(new LruFunc<>(func, 1000), ttl)}. When the
+ * cache returns null or throws an exception, it's remembered and returned
+ * or thrown again without calling the cache until the period expires.
+ * Remembered exception instance is thrown to all callers. The period
+ * starts when origin func returns or fails, so a slow failure is
+ * remembered for the whole period. {@link InterruptedException} is never
+ * remembered: the interrupt flag is set again and the exception is
+ * thrown to current caller only.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class NegativeFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Remembered null result.
+     */
+    private static final Object NOTHING = new Object();
+
+    /**
+     * Negative results: {@link #NOTHING} or exceptions.
+     */
+    private final ExpiringMap<X, Object> negatives;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live of negative results
+     */
+    public NegativeFunc(final Func<X, Y> func, final Duration ttl) {
+        this(func, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param ttl Time to live of negative results
+     * @param clock Clock
+     */
+    public NegativeFunc(final Func<X, Y> func, final Duration ttl,
+        final Clock clock) {
+        this(func, ttl, clock, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     * <p>
+     * Stats receive hits of remembered results and their expirations.
+     *
+     * @param func Origin func
+     * @param ttl Time to live of negative results
+     * @param clock Clock
+     * @param stats Stats
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public NegativeFunc(final Func<X, Y> func, final Duration ttl,
+        final Clock clock, final Stats stats) {
+        this.origin = func;
+        this.clock = clock;
+        this.stats = stats;
+        this.negatives = new ExpiringMap<>(
+            ttl.toMillis(), Expiry.AFTER_WRITE, stats
+        );
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        final Object negative = this.negatives.get(arg, this.clock.millis());
+        if (negative instanceof Exception) {
+            this.stats.hit();
+            throw (Exception) negative;
+        }
+        Y val = null;
+        if (negative == null) {
+            val = this.load(arg);
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Call origin func and remember its negative result, with the time
+     * it was received at.
+     *
+     * @param arg Argument
+     * @return Value
+     * @throws Exception If origin func fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Y load(final X arg) throws Exception {
+        final Y val;
+        try {
+            val = this.origin.apply(arg);
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+            throw err;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception err) {
+            this.negatives.put(arg, err, this.clock.millis());
+            throw err;
+        }
+        if (val == null) {
+            this.negatives.put(arg, NegativeFunc.NOTHING, this.clock.millis());
+        }
+        return val;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * LRU cache func which keeps encoded values outside of the heap.
+ * <p>
+ * Values are encoded by {@link Codec} and written to blocks of off-heap
+ * memory: direct buffers or memory-mapped temporary files. The heap keeps
+ * only the index of keys and block numbers, so a large working set
+ * doesn't make GC pauses longer and is never cleared by GC. When total
+ * size of values exceeds the capacity, least recently used values are
+ * evicted. Every call decodes the value again, so it returns a new copy.
+ * <p>
+ * Memory is released when the cache is collected by GC.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class OffHeapFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Addresses of cached values in access order, eldest first.
+     */
+    private final Map<X, int[]> index;
+
+    /**
+     * Off-heap memory.
+     */
+    private final Slabs slabs;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Codec.
+     */
+    private final Codec<Y> codec;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param codec Codec of values
+     * @param capacity Capacity in bytes
+     */
+    public OffHeapFunc(final Func<X, Y> func, final Codec<Y> codec,
+        final long capacity) {
+        this(func, codec, capacity, OffHeapFunc.Memory.DIRECT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param codec Codec of values
+     * @param capacity Capacity in bytes
+     * @param memory Off-heap memory
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public OffHeapFunc(final Func<X, Y> func, final Codec<Y> codec,
+        final long capacity, final OffHeapFunc.Memory memory) {
+        this(func, codec, capacity, memory, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param codec Codec of values
+     * @param capacity Capacity in bytes
+     * @param memory Off-heap memory
+     * @param stats Stats
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public OffHeapFunc(final Func<X, Y> func, final Codec<Y> codec,
+        final long capacity, final OffHeapFunc.Memory memory,
+        final Stats stats) {
+        this.origin = func;
+        this.codec = codec;
+        this.stats = stats;
+        this.slabs = new Slabs(capacity, memory);
+        // @checkstyle MagicNumberCheck (1 line)
+        this.index = new LinkedHashMap<>(16, 0.75F, true);
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final int[] addr = this.index.get(input);
+        final Y val;
+        if (addr == null) {
+            val = this.stats.miss(() -> this.origin.apply(input));
+            this.store(input, this.codec.encode(val));
+        } else {
+            this.stats.hit();
+            val = this.codec.decode(this.slabs.read(addr));
+        }
+        return val;
+    }
+
+    /**
+     * Store encoded value, evicting least recently used values.
+     *
+     * @param key Key
+     * @param bytes Encoded value
+     * @throws IOException If fails to allocate memory
+     */
+    private void store(final X key, final byte[] bytes) throws IOException {
+        final Iterator<Map.Entry<X, int[]>> eldest =
+            this.index.entrySet().iterator();
+        while (!this.slabs.fits(bytes.length) && eldest.hasNext()) {
+            final Map.Entry<X, int[]> ent = eldest.next();
+            this.slabs.free(ent.getValue());
+            eldest.remove();
+            this.stats.evicted(Stats.Cause.SIZE);
+        }
+        if (this.slabs.fits(bytes.length)) {
+            this.index.put(key, this.slabs.write(bytes));
+        }
+    }
+
+    /**
+     * Off-heap memory.
+     */
+    public enum Memory {
+        /**
+         * Direct buffers.
+         */
+        DIRECT {
+            @Override
+            ByteBuffer allocate(final int size) {
+                return ByteBuffer.allocateDirect(size);
+            }
+        },
+        /**
+         * Memory-mapped temporary files, they are deleted when closed,
+         * so only the mapping keeps them alive.
+         */
+        MAPPED {
+            @Override
+            ByteBuffer allocate(final int size) throws IOException {
+                try (FileChannel channel = FileChannel.open(
+                    Files.createTempFile("cactoos-cache", ".slab"),
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE
+                )) {
+                    return channel.map(
+                        FileChannel.MapMode.READ_WRITE, 0L, size
+                    );
+                }
+            }
+        };
+
+        /**
+         * Allocate memory.
+         *
+         * @param size Size in bytes
+         * @return Buffer
+         * @throws IOException If fails
+         */
+        abstract ByteBuffer allocate(int size) throws IOException;
+    }
+}
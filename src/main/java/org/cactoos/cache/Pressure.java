@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.NotificationEmitter;
+
+/**
+ * Memory pressure signal.
+ * <p>
+ * Level is a share of occupied memory from {@code 0.0} (free) to
+ * {@code 1.0} (full). A source, which measures the level at certain
+ * moments only, like after garbage collections, counts them as epochs,
+ * so a cache can react once to each new measurement, even if it's the
+ * same as the previous one. Other sources have no epochs, so each
+ * reading of their level is a new measurement. It's a functional
+ * interface, so such a source can be plugged as a lambda.
+ *
+ * @since 0.1
+ */
+public interface Pressure {
+
+    /**
+     * Current pressure level.
+     *
+     * @return Level from 0 to 1
+     */
+    double level();
+
+    /**
+     * Epoch of the current level: a count of measurements, which never
+     * decreases.
+     *
+     * @return Epoch, or a negative number if each reading of the level
+     *  is a new measurement
+     */
+    default long epoch() {
+        return -1L;
+    }
+
+    /**
+     * Occupancy of tenured heap pools, measured after garbage collections.
+     * <p>
+     * Only heap pools which support usage thresholds are considered,
+     * it's an old generation in all standard collectors. The level is
+     * read from {@link MemoryPoolMXBean#getUsage()} once after each
+     * collection, which is announced by collector notifications, and
+     * is cached between collections, so {@link #level()} doesn't call
+     * JMX beans while the heap is not collected. Right after a collection
+     * the usage of tenured pools is mostly taken by live objects and
+     * objects promoted since the last old generation collection, so the
+     * level follows the growth of cached values without waiting for
+     * a full collection.
+     * <p>
+     * All instances share one listener of collector notifications. On JVMs
+     * whose collectors don't send notifications the level is read once.
+     *
+     * @since 0.1
+     */
+    final class Heap implements Pressure {
+
+        /**
+         * Count of garbage collections since the class was loaded.
+         */
+        private static final AtomicLong COLLECTIONS = Pressure.Heap.listen(
+            ManagementFactory.getGarbageCollectorMXBeans()
+        );
+
+        /**
+         * Memory pools.
+         */
+        private final Collection<MemoryPoolMXBean> pools;
+
+        /**
+         * Count of garbage collections.
+         */
+        private final AtomicLong collections;
+
+        /**
+         * Count of collections the level was read after, plus one,
+         * or zero if the level was never read.
+         */
+        private volatile long seen;
+
+        /**
+         * Level read after the last collection.
+         */
+        private volatile double last;
+
+        /**
+         * Ctor.
+         */
+        public Heap() {
+            this(
+                ManagementFactory.getMemoryPoolMXBeans(),
+                Pressure.Heap.COLLECTIONS
+            );
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param pools Memory pools
+         * @param collections Count of garbage collections
+         */
+        Heap(final Collection<MemoryPoolMXBean> pools,
+            final AtomicLong collections) {
+            this.pools = pools;
+            this.collections = collections;
+        }
+
+        @Override
+        public long epoch() {
+            return this.collections.get();
+        }
+
+        @Override
+        public double level() {
+            final long count = this.collections.get() + 1L;
+            if (count != this.seen) {
+                this.last = this.read();
+                this.seen = count;
+            }
+            return this.last;
+        }
+
+        /**
+         * Read occupancy of tenured pools.
+         *
+         * @return Level from 0 to 1
+         */
+        private double read() {
+            double level = 0.0;
+            for (final MemoryPoolMXBean pool : this.pools) {
+                if (pool.getType() == MemoryType.HEAP
+                    && pool.isUsageThresholdSupported()) {
+                    level = Math.max(
+                        level, Pressure.Heap.share(pool.getUsage())
+                    );
+                }
+            }
+            return level;
+        }
+
+        /**
+         * Count garbage collections announced by collectors.
+         *
+         * @param beans Garbage collectors
+         * @return Count of collections
+         */
+        private static AtomicLong listen(
+            final Collection<GarbageCollectorMXBean> beans) {
+            final AtomicLong count = new AtomicLong();
+            for (final GarbageCollectorMXBean bean : beans) {
+                if (bean instanceof NotificationEmitter) {
+                    ((NotificationEmitter) bean).addNotificationListener(
+                        (note, handback) -> count.incrementAndGet(),
+                        null, null
+                    );
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Share of used memory.
+         *
+         * @param usage Memory usage
+         * @return Share from 0 to 1, or 0 if pool has no limit
+         */
+        private static double share(final MemoryUsage usage) {
+            double share = 0.0;
+            if (usage != null && usage.getMax() > 0L) {
+                share = (double) usage.getUsed() / (double) usage.getMax();
+            }
+            return share;
+        }
+    }
+}
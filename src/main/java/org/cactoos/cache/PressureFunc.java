@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Cache func which sheds least recently used values under memory pressure.
+ * <p>
+ * Unlike {@link SoftFunc}, values are kept by strong references, so
+ * garbage collector never clears the whole cache at once right before
+ * {@link OutOfMemoryError}. Instead, the cache checks {@link Pressure}
+ * on each miss and, when the level is above the threshold, evicts
+ * {@code 1 + size / 32} least recently used values once per
+ * {@link Pressure#epoch()}, so a storm of misses between two measurements
+ * of the pressure doesn't empty the cache: {@link Pressure.Heap} starts
+ * a new epoch after each garbage collection. While the level stays above
+ * the threshold, each epoch sheds values again, even if the level doesn't
+ * change. A source without epochs makes the cache shed on each miss.
+ * The cache shrinks gradually from its cold end, and the hot set stays
+ * cached until the pressure is gone.
+ * <p>
+ * The cache has no size limit, so it must be used with a pressure
+ * source, which reflects memory taken by cached values, like
+ * {@link Pressure.Heap} by default.
+ * <p>
+ * Func arguments must implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods
+ * to be used as cache keys.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@NotThreadSafe
+public final class PressureFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Cached values in access order, eldest first.
+     */
+    private final Map<X, Y> hits;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Memory pressure.
+     */
+    private final Pressure pressure;
+
+    /**
+     * Pressure level to start shedding at.
+     */
+    private final double threshold;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Pressure epoch seen on the last miss, plus one, or zero if the
+     * pressure was never seen.
+     */
+    private long seen;
+
+    /**
+     * Ctor.
+     *
+     * <p>Sheds values when tenured heap is 80% full after collection.
+     *
+     * @param func Origin func
+     */
+    public PressureFunc(final Func<X, Y> func) {
+        this(func, 0.8);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param threshold Tenured heap occupancy to start shedding at
+     */
+    public PressureFunc(final Func<X, Y> func, final double threshold) {
+        this(func, new Pressure.Heap(), threshold);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param pressure Memory pressure
+     * @param threshold Pressure level to start shedding at
+     */
+    public PressureFunc(final Func<X, Y> func, final Pressure pressure,
+        final double threshold) {
+        this(func, pressure, threshold, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param pressure Memory pressure
+     * @param threshold Pressure level to start shedding at
+     * @param stats Stats
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public PressureFunc(final Func<X, Y> func, final Pressure pressure,
+        final double threshold, final Stats stats) {
+        this.hits = new LinkedHashMap<>(16, 0.75F, true);
+        this.origin = func;
+        this.pressure = pressure;
+        this.threshold = threshold;
+        this.stats = stats;
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        Y val = this.hits.get(arg);
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(arg));
+            this.relieve();
+            this.hits.put(arg, val);
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Shed least recently used values, if the pressure epoch is new
+     * and the level is above the threshold.
+     */
+    private void relieve() {
+        final long epoch = this.pressure.epoch();
+        if ((epoch < 0L || epoch + 1L != this.seen)
+            && this.pressure.level() > this.threshold) {
+            this.shed(1 + this.hits.size() / 32);
+        }
+        this.seen = epoch + 1L;
+    }
+
+    /**
+     * Evict least recently used values.
+     *
+     * @param count Count of values to evict
+     */
+    private void shed(final int count) {
+        final Iterator<X> eldest = this.hits.keySet().iterator();
+        for (int idx = 0; idx < count && eldest.hasNext(); ++idx) {
+            eldest.next();
+            eldest.remove();
+            this.stats.evicted(Stats.Cause.SIZE);
+        }
+    }
+}
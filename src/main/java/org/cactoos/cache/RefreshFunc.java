@@ -0,0 +1,325 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Cache func which refreshes values ahead of time.
+ * <p>
+ * When a cached value is older than refresh period, it's still returned to
+ * the caller, but a new value is loaded by origin func on the executor in
+ * background. Only one refresh of a key runs at a time. If the refresh
+ * fails or returns null, the old value is kept and the next caller tries
+ * again, readers never see refresh failures. Only the first load of a key
+ * blocks its callers.
+ * <p>
+ * Values are kept by one of {@link Retention} policies in their
+ * thread-safe versions. With expiration after access longer than refresh
+ * period, hot values are always refreshed and never expire, while cold
+ * values are forgotten, constructors with {@code expire} period build
+ * such retention with the clock of this func. Expiration after write
+ * drops a value one period after its first load, no matter how often it
+ * was refreshed, so the next caller is blocked by the load again.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class RefreshFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Value slots.
+     */
+    private final Func<X, RefreshFunc.Slot<Y>> slots;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Refresh period in milliseconds.
+     */
+    private final long period;
+
+    /**
+     * Executor of refreshes.
+     */
+    private final Executor executor;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param refresh Refresh period after write
+     * @param expire Expiration period after access
+     */
+    public RefreshFunc(final Func<X, Y> func, final Duration refresh,
+        final Duration expire) {
+        this(
+            func, refresh, expire, ForkJoinPool.commonPool(),
+            Clock.systemUTC()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param refresh Refresh period after write
+     * @param expire Expiration period after access
+     * @param executor Executor of refreshes
+     * @param clock Clock
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public RefreshFunc(final Func<X, Y> func, final Duration refresh,
+        final Duration expire, final Executor executor, final Clock clock) {
+        this(
+            func, refresh,
+            new Retention.Expiring(expire, Expiry.AFTER_ACCESS, clock),
+            executor, clock
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param refresh Refresh period after write
+     * @param retention Retention policy
+     */
+    public RefreshFunc(final Func<X, Y> func, final Duration refresh,
+        final Retention retention) {
+        this(func, refresh, retention, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param refresh Refresh period after write
+     * @param retention Retention policy
+     * @param executor Executor of refreshes
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public RefreshFunc(final Func<X, Y> func, final Duration refresh,
+        final Retention retention, final Executor executor) {
+        this(func, refresh, retention, executor, Clock.systemUTC());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param refresh Refresh period after write
+     * @param retention Retention policy
+     * @param executor Executor of refreshes
+     * @param clock Clock
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public RefreshFunc(final Func<X, Y> func, final Duration refresh,
+        final Retention retention, final Executor executor,
+        final Clock clock) {
+        this.origin = func;
+        this.period = refresh.toMillis();
+        this.executor = executor;
+        this.clock = clock;
+        this.slots = retention.concurrent(key -> new RefreshFunc.Slot<>());
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        final RefreshFunc.Slot<Y> slot = this.slots.apply(arg);
+        final long now = this.clock.millis();
+        Y val = slot.value();
+        if (val == null) {
+            val = slot.load(() -> this.origin.apply(arg), now);
+        } else if (now - slot.written() >= this.period && slot.lock()) {
+            this.refresh(arg, slot);
+        }
+        return val;
+    }
+
+    /**
+     * Start refresh of the value in background, its failure or null result
+     * is ignored, so the old value is kept and the next caller will retry.
+     *
+     * @param arg Argument
+     * @param slot Slot of the value
+     */
+    @SuppressWarnings(
+        {
+            "PMD.AvoidCatchingGenericException",
+            "PMD.EmptyCatchBlock"
+        }
+    )
+    private void refresh(final X arg, final RefreshFunc.Slot<Y> slot) {
+        try {
+            this.executor.execute(
+                () -> {
+                    try {
+                        slot.refresh(
+                            this.origin.apply(arg), this.clock.millis()
+                        );
+                        // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Exception ignored) {
+                    } finally {
+                        slot.unlock();
+                    }
+                }
+            );
+        } catch (final RejectedExecutionException ignored) {
+            slot.unlock();
+        }
+    }
+
+    /**
+     * Slot of a cached value.
+     *
+     * @param <Y> Value type
+     */
+    private static final class Slot<Y> {
+
+        /**
+         * Refresh in progress.
+         */
+        private final AtomicBoolean refreshing;
+
+        /**
+         * Lock of the first load.
+         */
+        private final Object mutex;
+
+        /**
+         * Value.
+         */
+        private volatile Y cached;
+
+        /**
+         * Time of write in milliseconds.
+         */
+        private volatile long time;
+
+        /**
+         * Ctor.
+         */
+        Slot() {
+            this.refreshing = new AtomicBoolean();
+            this.mutex = new Object();
+        }
+
+        /**
+         * Current value.
+         *
+         * @return Value or null if not loaded yet
+         */
+        public Y value() {
+            return this.cached;
+        }
+
+        /**
+         * Time of last write.
+         *
+         * @return Milliseconds
+         */
+        public long written() {
+            return this.time;
+        }
+
+        /**
+         * Load value, if it's not loaded yet.
+         *
+         * @param loader Loader
+         * @param now Current time
+         * @return Value
+         * @throws Exception If loader fails
+         */
+        public Y load(final Scalar<Y> loader, final long now)
+            throws Exception {
+            synchronized (this.mutex) {
+                Y val = this.cached;
+                if (val == null) {
+                    val = loader.value();
+                    this.update(val, now);
+                }
+                return val;
+            }
+        }
+
+        /**
+         * Replace value.
+         *
+         * @param value New value
+         * @param now Current time
+         */
+        public void update(final Y value, final long now) {
+            this.time = now;
+            this.cached = value;
+        }
+
+        /**
+         * Replace value with refreshed one, if it's not null.
+         *
+         * @param value Refreshed value, can be null
+         * @param now Current time
+         */
+        public void refresh(final Y value, final long now) {
+            if (value != null) {
+                this.update(value, now);
+            }
+        }
+
+        /**
+         * Start refresh, if it's not started yet.
+         *
+         * @return TRUE if refresh should be started by the caller
+         */
+        public boolean lock() {
+            return this.refreshing.compareAndSet(false, true);
+        }
+
+        /**
+         * Finish refresh.
+         */
+        public void unlock() {
+            this.refreshing.set(false);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.cactoos.Func;
+
+/**
+ * Retention policy of cached values.
+ * <p>
+ * It builds one of synchronous caches of this package around a loader
+ * func, so decorators like {@link AsyncFunc} can keep their own values
+ * with the same policies: soft, weak, LRU or expiring.
+ *
+ * @since 0.1
+ */
+public interface Retention {
+
+    /**
+     * Build a cache.
+     *
+     * @param loader Loader of values
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return Cache func
+     */
+    <K, V> Func<K, V> cache(Func<K, V> loader);
+
+    /**
+     * Build a thread-safe cache.
+     * <p>
+     * Loader may be called concurrently for the same key, but only one
+     * of loaded values is retained and returned to all callers.
+     *
+     * @param loader Loader of values, should be cheap
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return Cache func
+     */
+    <K, V> Func<K, V> concurrent(Func<K, V> loader);
+
+    /**
+     * Values are kept by soft references, see {@link SoftFunc}.
+     *
+     * @since 0.1
+     */
+    final class Soft implements Retention {
+        @Override
+        public <K, V> Func<K, V> cache(final Func<K, V> loader) {
+            return new SoftFunc<>(loader);
+        }
+
+        @Override
+        public <K, V> Func<K, V> concurrent(final Func<K, V> loader) {
+            return new StripedFunc<>(idx -> new SoftFunc<>(loader));
+        }
+    }
+
+    /**
+     * Values are kept while their keys are reachable, see {@link WeakFunc}.
+     * <p>
+     * Keys must be kept reachable by the caller, a key created for each
+     * call, like a pair of arguments, is collected together with its value
+     * right after the call. {@link AsyncBiFunc} rejects it for this reason.
+     *
+     * @since 0.1
+     */
+    final class Weak implements Retention {
+        @Override
+        public <K, V> Func<K, V> cache(final Func<K, V> loader) {
+            return new WeakFunc<>(loader);
+        }
+
+        @Override
+        public <K, V> Func<K, V> concurrent(final Func<K, V> loader) {
+            return new ConcurrentWeakFunc<>(loader);
+        }
+    }
+
+    /**
+     * Most recently used values are kept, see {@link LruFunc}.
+     *
+     * @since 0.1
+     */
+    final class Lru implements Retention {
+
+        /**
+         * Cache size.
+         */
+        private final int size;
+
+        /**
+         * Ctor.
+         *
+         * @param size Cache size
+         */
+        public Lru(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        public <K, V> Func<K, V> cache(final Func<K, V> loader) {
+            return new LruFunc<>(loader, this.size);
+        }
+
+        @Override
+        public <K, V> Func<K, V> concurrent(final Func<K, V> loader) {
+            return new ConcurrentLruFunc<>(loader, this.size);
+        }
+    }
+
+    /**
+     * Values are kept for time-to-live period, see {@link ExpiringFunc}.
+     *
+     * @since 0.1
+     */
+    final class Expiring implements Retention {
+
+        /**
+         * Time to live.
+         */
+        private final Duration ttl;
+
+        /**
+         * Expiration policy.
+         */
+        private final Expiry expiry;
+
+        /**
+         * Clock.
+         */
+        private final Clock clock;
+
+        /**
+         * Ctor.
+         *
+         * @param ttl Time to live after write
+         */
+        public Expiring(final Duration ttl) {
+            this(ttl, Expiry.AFTER_WRITE);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param ttl Time to live
+         * @param expiry Expiration policy
+         */
+        public Expiring(final Duration ttl, final Expiry expiry) {
+            this(ttl, expiry, Clock.systemUTC());
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param ttl Time to live
+         * @param expiry Expiration policy
+         * @param clock Clock
+         */
+        public Expiring(final Duration ttl, final Expiry expiry,
+            final Clock clock) {
+            this.ttl = ttl;
+            this.expiry = expiry;
+            this.clock = clock;
+        }
+
+        @Override
+        public <K, V> Func<K, V> cache(final Func<K, V> loader) {
+            return new ExpiringFunc<>(
+                loader, this.ttl, this.expiry, this.clock
+            );
+        }
+
+        @Override
+        public <K, V> Func<K, V> concurrent(final Func<K, V> loader) {
+            return new StripedFunc<>(
+                idx -> new ExpiringFunc<>(
+                    loader, this.ttl, this.expiry, this.clock
+                )
+            );
+        }
+    }
+}
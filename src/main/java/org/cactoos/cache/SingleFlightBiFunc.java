@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.BiFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Func decorator which loads each key only once at a time.
+ * <p>
+ * First caller for a key calls origin func, all other callers for the same
+ * key, arrived while the first one is still computing, wait for this
+ * computation and share its result or its exception. Callers for other
+ * keys are not affected. The key is forgotten as soon as computation is
+ * finished, so this func doesn't cache anything itself.
+ * <p>
+ * It should be used as origin func of a thread-safe cache to reduce
+ * cache stampede, when many threads miss the same hot key at once:
+ * {@code new ConcurrentSoftBiFunc<>(new SingleFlightBiFunc<>(func))}.
+ * <p>
+ * The guarantee holds only for calls which overlap with the computation.
+ * The flight is forgotten when origin func returns, before the wrapping
+ * cache stores the value, so a caller which misses the cache in this
+ * short window starts a new computation. Stampede is reduced to a few
+ * computations per key, but it's not prevented completely.
+ *
+ * @param <X> First argument type
+ * @param <Y> Second argument type
+ * @param <Z> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class SingleFlightBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
+
+    /**
+     * Computations in progress.
+     */
+    private final ConcurrentMap<Map.Entry<X, Y>, CompletableFuture<Z>> flights;
+
+    /**
+     * Origin func.
+     */
+    private final BiFunc<X, Y, Z> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     */
+    public SingleFlightBiFunc(final BiFunc<X, Y, Z> func) {
+        this.origin = func;
+        this.flights = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Z apply(final X first, final Y second) throws Exception {
+        final Map.Entry<X, Y> key = new MapEntry<>(first, second);
+        final CompletableFuture<Z> flight = new CompletableFuture<>();
+        final CompletableFuture<Z> current =
+            this.flights.putIfAbsent(key, flight);
+        final Z val;
+        if (current == null) {
+            val = this.fly(key, flight);
+        } else {
+            val = SingleFlightBiFunc.await(current);
+        }
+        return val;
+    }
+
+    /**
+     * Compute the value and share it with waiting callers.
+     *
+     * @param key Arguments
+     * @param flight Computation to complete
+     * @return Value
+     * @throws Exception If origin func fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Z fly(final Map.Entry<X, Y> key, final CompletableFuture<Z> flight)
+        throws Exception {
+        try {
+            final Z val = this.origin.apply(key.getKey(), key.getValue());
+            flight.complete(val);
+            return val;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception | Error err) {
+            flight.completeExceptionally(err);
+            throw err;
+        } finally {
+            this.flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Wait for a computation started by another caller.
+     *
+     * @param flight Computation
+     * @param <T> Value type
+     * @return Value
+     * @throws Exception If computation failed
+     */
+    private static <T> T await(final CompletableFuture<T> flight)
+        throws Exception {
+        try {
+            return flight.get();
+        } catch (final ExecutionException err) {
+            final Throwable cause = err.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw err;
+        }
+    }
+}
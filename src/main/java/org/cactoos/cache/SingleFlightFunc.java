@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Func decorator based on {@link SingleFlightBiFunc}, which loads each
+ * argument only once at a time.
+ * <p>
+ * It should be used as origin func of a thread-safe cache:
+ * {@code new ConcurrentWeakFunc<>(new SingleFlightFunc<>(func))}.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+public final class SingleFlightFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Dummy key for {@link SingleFlightBiFunc} argument.
+     */
+    private static final Object KEY = new Object();
+
+    /**
+     * Origin func.
+     */
+    private final SingleFlightBiFunc<Object, X, Y> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     */
+    public SingleFlightFunc(final Func<X, Y> func) {
+        this.origin = new SingleFlightBiFunc<>(
+            (first, second) -> func.apply(second)
+        );
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        return this.origin.apply(SingleFlightFunc.KEY, arg);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Off-heap memory divided into fixed size blocks.
+ * <p>
+ * Memory is allocated lazily by slabs of many blocks, freed blocks are
+ * reused. Bytes of a value are written to any free blocks, not
+ * necessarily adjacent, so there is no fragmentation. Address of written
+ * bytes is an array of their length followed by block numbers.
+ *
+ * @since 0.1
+ */
+@NotThreadSafe
+final class Slabs {
+
+    /**
+     * Block size in bytes.
+     */
+    private static final int BLOCK = 1024;
+
+    /**
+     * Number of blocks in a slab.
+     */
+    private static final int PER_SLAB = 65_536;
+
+    /**
+     * Memory of slabs.
+     */
+    private final OffHeapFunc.Memory memory;
+
+    /**
+     * Allocated slabs.
+     */
+    private final List<ByteBuffer> buffers;
+
+    /**
+     * Total number of blocks.
+     */
+    private final int total;
+
+    /**
+     * Stack of freed blocks.
+     */
+    private int[] freed;
+
+    /**
+     * Number of freed blocks.
+     */
+    private int nfreed;
+
+    /**
+     * Number of blocks used at least once.
+     */
+    private int used;
+
+    /**
+     * Ctor.
+     *
+     * @param capacity Capacity in bytes
+     * @param memory Memory of slabs
+     */
+    Slabs(final long capacity, final OffHeapFunc.Memory memory) {
+        this.memory = memory;
+        this.total = (int) Math.min(
+            Integer.MAX_VALUE, capacity / Slabs.BLOCK
+        );
+        this.buffers = new ArrayList<>(0);
+        this.freed = new int[0];
+    }
+
+    /**
+     * Is there enough free blocks for bytes.
+     *
+     * @param length Number of bytes
+     * @return TRUE if bytes can be written
+     */
+    public boolean fits(final int length) {
+        return Slabs.blocks(length) <= this.total - this.used + this.nfreed;
+    }
+
+    /**
+     * Write bytes to newly allocated blocks.
+     *
+     * @param bytes Bytes, they must fit available blocks
+     * @return Address of bytes
+     * @throws IOException If fails to allocate memory
+     */
+    public int[] write(final byte[] bytes) throws IOException {
+        final int[] addr = new int[Slabs.blocks(bytes.length) + 1];
+        addr[0] = bytes.length;
+        for (int idx = 1; idx < addr.length; ++idx) {
+            addr[idx] = this.allocate();
+            final int off = (idx - 1) * Slabs.BLOCK;
+            this.buffer(addr[idx]).put(
+                bytes, off, Math.min(Slabs.BLOCK, bytes.length - off)
+            );
+        }
+        return addr;
+    }
+
+    /**
+     * Read bytes.
+     *
+     * @param addr Address of bytes
+     * @return Bytes
+     */
+    public byte[] read(final int... addr) {
+        final byte[] bytes = new byte[addr[0]];
+        for (int idx = 1; idx < addr.length; ++idx) {
+            final int off = (idx - 1) * Slabs.BLOCK;
+            this.buffer(addr[idx]).get(
+                bytes, off, Math.min(Slabs.BLOCK, bytes.length - off)
+            );
+        }
+        return bytes;
+    }
+
+    /**
+     * Free blocks of bytes.
+     *
+     * @param addr Address of bytes
+     */
+    public void free(final int... addr) {
+        final int count = addr.length - 1;
+        if (this.freed.length < this.nfreed + count) {
+            final int[] grown = new int[
+                Math.max(this.freed.length << 1, this.nfreed + count)
+            ];
+            System.arraycopy(this.freed, 0, grown, 0, this.nfreed);
+            this.freed = grown;
+        }
+        System.arraycopy(addr, 1, this.freed, this.nfreed, count);
+        this.nfreed += count;
+    }
+
+    /**
+     * Allocate a block.
+     *
+     * @return Block
+     * @throws IOException If fails to allocate memory
+     */
+    private int allocate() throws IOException {
+        final int block;
+        if (this.nfreed > 0) {
+            --this.nfreed;
+            block = this.freed[this.nfreed];
+        } else {
+            block = this.used;
+            ++this.used;
+            if (block % Slabs.PER_SLAB == 0) {
+                this.buffers.add(
+                    this.memory.allocate(
+                        Math.min(Slabs.PER_SLAB, this.total - block)
+                            * Slabs.BLOCK
+                    )
+                );
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Buffer of a block.
+     *
+     * @param block Block
+     * @return Buffer positioned at the block start
+     */
+    private ByteBuffer buffer(final int block) {
+        final ByteBuffer buf = this.buffers.get(block / Slabs.PER_SLAB)
+            .duplicate();
+        buf.position(block % Slabs.PER_SLAB * Slabs.BLOCK);
+        return buf;
+    }
+
+    /**
+     * Number of blocks needed for bytes.
+     *
+     * @param length Number of bytes
+     * @return Number of blocks
+     */
+    private static int blocks(final int length) {
+        return (length + Slabs.BLOCK - 1) / Slabs.BLOCK;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Doubly linked order of table slots.
+ * <p>
+ * Links are kept in two int arrays, so there are no node objects.
+ *
+ * @since 0.1
+ */
+@NotThreadSafe
+final class SlotOrder {
+
+    /**
+     * No slot.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Previous slots.
+     */
+    private final int[] prev;
+
+    /**
+     * Next slots.
+     */
+    private final int[] next;
+
+    /**
+     * First slot.
+     */
+    private int head;
+
+    /**
+     * Last slot.
+     */
+    private int tail;
+
+    /**
+     * Ctor.
+     *
+     * @param capacity Number of slots
+     */
+    SlotOrder(final int capacity) {
+        this.prev = new int[capacity];
+        this.next = new int[capacity];
+        this.head = SlotOrder.NONE;
+        this.tail = SlotOrder.NONE;
+    }
+
+    /**
+     * First slot.
+     *
+     * @return Slot or {@link #NONE}
+     */
+    public int first() {
+        return this.head;
+    }
+
+    /**
+     * Slot after a slot.
+     *
+     * @param slot Slot
+     * @return Next slot or {@link #NONE}
+     */
+    public int after(final int slot) {
+        return this.next[slot];
+    }
+
+    /**
+     * Link the slot as the last one.
+     *
+     * @param slot Slot
+     */
+    public void link(final int slot) {
+        this.prev[slot] = this.tail;
+        this.next[slot] = SlotOrder.NONE;
+        if (this.tail == SlotOrder.NONE) {
+            this.head = slot;
+        } else {
+            this.next[this.tail] = slot;
+        }
+        this.tail = slot;
+    }
+
+    /**
+     * Unlink the slot.
+     *
+     * @param slot Slot
+     */
+    public void unlink(final int slot) {
+        if (this.prev[slot] == SlotOrder.NONE) {
+            this.head = this.next[slot];
+        } else {
+            this.next[this.prev[slot]] = this.next[slot];
+        }
+        if (this.next[slot] == SlotOrder.NONE) {
+            this.tail = this.prev[slot];
+        } else {
+            this.prev[this.next[slot]] = this.prev[slot];
+        }
+    }
+
+    /**
+     * Move linked slot to an unlinked one, keeping its position.
+     *
+     * @param from Linked slot
+     * @param dest Unlinked slot
+     */
+    public void move(final int from, final int dest) {
+        this.prev[dest] = this.prev[from];
+        this.next[dest] = this.next[from];
+        if (this.prev[dest] == SlotOrder.NONE) {
+            this.head = dest;
+        } else {
+            this.next[this.prev[dest]] = dest;
+        }
+        if (this.next[dest] == SlotOrder.NONE) {
+            this.tail = dest;
+        } else {
+            this.prev[this.next[dest]] = dest;
+        }
+    }
+}
@@ -26,9 +26,6 @@ package org.cactoos.cache;
 
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
-import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.Map;
 import javax.annotation.concurrent.NotThreadSafe;
 import org.cactoos.BiFunc;
@@ -45,6 +42,11 @@ import org.cactoos.map.MapEntry;
  * is {@code 1000 ms for free heap MB}.
  * But  keep in mind, that all cached values which are not linked with strong
  * references may be deleted before JVM will throw {@link OutOfMemoryError}.
+ * <p>
+ * Cleared values are removed from the cache using internal reference queue,
+ * only cleared entries are touched, so cache lookup takes constant time.
+ * If reference queue is provided via constructor, it will be notified about
+ * cleared values too.
  *
  * @param <X> First argument type
  * @param <Y> Second argument type
@@ -54,26 +56,20 @@ import org.cactoos.map.MapEntry;
 @NotThreadSafe
 public final class SoftBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
 
-    /**
-     * Empty reference.
-     */
-    private static final SoftReference<Void> EMPTY =
-        new SoftReference<>(null);
-
     /**
      * Reference map.
      */
-    private final Map<Map.Entry<X, Y>, SoftReference<Z>> map;
+    private final SoftMap<Map.Entry<X, Y>, Z> map;
 
     /**
-     * Reference queue.
+     * Origin func.
      */
-    private final ReferenceQueue<Z> references;
+    private final BiFunc<X, Y, Z> origin;
 
     /**
-     * Origin func.
+     * Stats.
      */
-    private final BiFunc<X, Y, Z> origin;
+    private final Stats stats;
 
     /**
      * Ctor.
@@ -85,37 +81,39 @@ public final class SoftBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
     }
 
     /**
-     * Primary ctor.
+     * Ctor.
      *
      * @param func Origin func
-     * @param queue Reference queue
+     * @param queue Reference queue to notify, can be null
      */
     public SoftBiFunc(final BiFunc<X, Y, Z> func,
         final ReferenceQueue<Z> queue) {
+        this(func, queue, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param queue Reference queue to notify, can be null
+     * @param stats Stats
+     */
+    public SoftBiFunc(final BiFunc<X, Y, Z> func,
+        final ReferenceQueue<Z> queue, final Stats stats) {
         this.origin = func;
-        this.references = queue;
-        this.map = new LinkedHashMap<>(0);
+        this.map = new SoftMap<>(queue, stats);
+        this.stats = stats;
     }
 
     @Override
     public Z apply(final X first, final Y second) throws Exception {
         final Map.Entry<X, Y> key = new MapEntry<>(first, second);
-        @SuppressWarnings("unchecked") final SoftReference<Z> ref =
-            this.map.getOrDefault(key, (SoftReference<Z>) SoftBiFunc.EMPTY);
-        Z val = ref.get();
+        Z val = this.map.get(key);
         if (val == null) {
-            val = this.origin.apply(first, second);
-            this.map.put(key, new SoftReference<>(val, this.references));
-        }
-        final Collection<Map.Entry<X, Y>> empty = new LinkedList<>();
-        for (final Map.Entry<Map.Entry<X, Y>, SoftReference<Z>> entry
-            : this.map.entrySet()) {
-            if (entry.getValue().get() == null) {
-                empty.add(entry.getKey());
-            }
-        }
-        for (final Map.Entry<X, Y> item : empty) {
-            this.map.remove(item);
+            val = this.stats.miss(() -> this.origin.apply(first, second));
+            this.map.put(key, val);
+        } else {
+            this.stats.hit();
         }
         return val;
     }
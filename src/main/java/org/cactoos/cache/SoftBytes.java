@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Bytes;
+
+/**
+ * Bytes implementation based on {@link SoftScalar}.
+ * <p>
+ * By default bytes are kept on heap and returned without copying, so
+ * the same array is returned until it's cleared by garbage collector.
+ * Large payloads can be kept outside of the heap with
+ * {@link SoftBytes.Storage#DIRECT} or {@link SoftBytes.Storage#MAPPED}
+ * storage, then only a small buffer object is soft-referenced, its memory
+ * is released when the buffer is collected, and each call copies bytes
+ * into a new array exactly once.
+ *
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class SoftBytes implements Bytes {
+
+    /**
+     * Cached buffer.
+     */
+    private final SoftScalar<ByteBuffer> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param bytes Origin bytes
+     */
+    public SoftBytes(final Bytes bytes) {
+        this(bytes, SoftBytes.Storage.HEAP);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param bytes Origin bytes
+     * @param storage Bytes storage
+     */
+    public SoftBytes(final Bytes bytes, final SoftBytes.Storage storage) {
+        this(bytes, storage, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param bytes Origin bytes
+     * @param storage Bytes storage
+     * @param stats Stats
+     */
+    public SoftBytes(final Bytes bytes, final SoftBytes.Storage storage,
+        final Stats stats) {
+        this.origin = new SoftScalar<>(
+            () -> storage.store(bytes.asBytes()), null, stats
+        );
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        final ByteBuffer buf = this.origin.value();
+        final byte[] bytes;
+        if (buf.hasArray()) {
+            bytes = buf.array();
+        } else {
+            bytes = new byte[buf.remaining()];
+            buf.duplicate().get(bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Where cached bytes are stored.
+     */
+    public enum Storage {
+        /**
+         * Heap array.
+         */
+        HEAP {
+            @Override
+            ByteBuffer store(final byte[] bytes) {
+                return ByteBuffer.wrap(bytes);
+            }
+        },
+        /**
+         * Direct buffer outside of the heap.
+         */
+        DIRECT {
+            @Override
+            ByteBuffer store(final byte[] bytes) {
+                final ByteBuffer buf = ByteBuffer.allocateDirect(bytes.length);
+                buf.put(bytes);
+                buf.flip();
+                return buf;
+            }
+        },
+        /**
+         * Memory-mapped temporary file, it's deleted when closed,
+         * so only the mapping keeps it alive.
+         */
+        MAPPED {
+            @Override
+            ByteBuffer store(final byte[] bytes) throws IOException {
+                try (FileChannel channel = FileChannel.open(
+                    Files.createTempFile("cactoos-cache", ".bytes"),
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE
+                )) {
+                    final ByteBuffer buf = channel.map(
+                        FileChannel.MapMode.READ_WRITE, 0L, bytes.length
+                    );
+                    buf.put(bytes);
+                    buf.flip();
+                    return buf;
+                }
+            }
+        };
+
+        /**
+         * Store bytes.
+         *
+         * @param bytes Bytes
+         * @return Buffer with bytes from position to limit
+         * @throws IOException If fails
+         */
+        abstract ByteBuffer store(byte[] bytes) throws IOException;
+    }
+}
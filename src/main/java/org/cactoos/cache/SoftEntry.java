@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+
+/**
+ * Soft reference to a cached value which remembers its cache key.
+ * <p>
+ * When the value is cleared, this reference is enqueued and the key
+ * can be used to remove exactly this entry from the cache,
+ * without scanning whole cache for cleared values.
+ * <p>
+ * Optionally it keeps one more soft reference to the same value registered
+ * with user's queue: JVM clears all soft references to the value at once,
+ * so the user is notified too.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @since 0.1
+ */
+final class SoftEntry<K, V> extends SoftReference<V> {
+
+    /**
+     * Cache key.
+     */
+    private final K mkey;
+
+    /**
+     * Reference registered with user's queue, it's never read, but should
+     * be reachable while this entry is alive to be enqueued.
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @SuppressFBWarnings(
+        value = "URF_UNREAD_FIELD",
+        justification = "strong reference to the twin reference"
+    )
+    private final Reference<V> twin;
+
+    /**
+     * Ctor.
+     *
+     * @param key Cache key
+     * @param value Cached value
+     * @param queue Queue to register with
+     */
+    SoftEntry(final K key, final V value,
+        final ReferenceQueue<? super V> queue) {
+        this(key, value, queue, null);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param key Cache key
+     * @param value Cached value
+     * @param queue Queue to register with
+     * @param user User's queue to notify, can be null
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    SoftEntry(final K key, final V value,
+        final ReferenceQueue<? super V> queue,
+        final ReferenceQueue<? super V> user) {
+        super(value, queue);
+        this.mkey = key;
+        this.twin = SoftEntry.notifying(value, user);
+    }
+
+    /**
+     * Cache key of this entry.
+     *
+     * @return Key
+     */
+    public K key() {
+        return this.mkey;
+    }
+
+    /**
+     * Reference registered with user's queue.
+     *
+     * @param value Cached value
+     * @param user User's queue, can be null
+     * @param <V> Value type
+     * @return Reference or null if there is no user's queue
+     */
+    private static <V> Reference<V> notifying(final V value,
+        final ReferenceQueue<? super V> user) {
+        Reference<V> ref = null;
+        if (user != null) {
+            ref = new SoftReference<>(value, user);
+        }
+        return ref;
+    }
+}
@@ -26,11 +26,14 @@ package org.cactoos.cache;
 
 import java.lang.ref.ReferenceQueue;
 import javax.annotation.concurrent.NotThreadSafe;
-import org.cactoos.BiFunc;
 import org.cactoos.Func;
 
 /**
- * Func implementation based on {@link SoftBiFunc}.
+ * Caching {@link Func} implementation based on soft references.
+ * <p>
+ * It keeps values the same way as {@link SoftBiFunc}, but it uses func
+ * argument as a cache key directly, so cache hit doesn't allocate
+ * any objects.
  *
  * @param <X> Argument type
  * @param <Y> Result type
@@ -40,73 +43,62 @@ import org.cactoos.Func;
 public final class SoftFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Dummy key for {@link SoftBiFunc} argument.
+     * Reference map.
      */
-    private static final Object KEY = new Object();
+    private final SoftMap<X, Y> map;
 
     /**
      * Origin func.
      */
-    private final SoftBiFunc<Object, X, Y> origin;
+    private final Func<X, Y> origin;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
 
     /**
      * Ctor.
      *
      * @param func Origin func.
-     * @param queue Reference queue.
      */
-    public SoftFunc(final Func<X, Y> func, final ReferenceQueue<Y> queue) {
-        this(new SoftBiFunc<>(new BiFuncWrap<>(func), queue));
+    public SoftFunc(final Func<X, Y> func) {
+        this(func, null);
     }
 
     /**
      * Ctor.
      *
      * @param func Origin func.
+     * @param queue Reference queue to notify, can be null
      */
-    public SoftFunc(final Func<X, Y> func) {
-        this(new SoftBiFunc<>(new SoftFunc.BiFuncWrap<>(func)));
+    public SoftFunc(final Func<X, Y> func, final ReferenceQueue<Y> queue) {
+        this(func, queue, new Stats.None());
     }
 
     /**
-     * Ctor.
+     * Primary ctor.
      *
-     * @param func Origin func
+     * @param func Origin func.
+     * @param queue Reference queue to notify, can be null
+     * @param stats Stats
      */
-    private SoftFunc(final SoftBiFunc<Object, X, Y> func) {
+    public SoftFunc(final Func<X, Y> func, final ReferenceQueue<Y> queue,
+        final Stats stats) {
         this.origin = func;
+        this.map = new SoftMap<>(queue, stats);
+        this.stats = stats;
     }
 
     @Override
     public Y apply(final X arg) throws Exception {
-        return this.origin.apply(SoftFunc.KEY, arg);
-    }
-
-    /**
-     * Decorator for {@link Func} to be {@link BiFunc}.
-     *
-     * @param <X> Argument type
-     * @param <Y> Result type
-     */
-    private static final class BiFuncWrap<X, Y> implements
-        BiFunc<Object, X, Y> {
-
-        /**
-         * Decorating func.
-         */
-        private final Func<X, Y> origin;
-
-        /**
-         * Ctor.
-         * @param func Decorating func
-         */
-        BiFuncWrap(final Func<X, Y> func) {
-            this.origin = func;
-        }
-
-        @Override
-        public Y apply(final Object ignore, final X arg) throws Exception {
-            return this.origin.apply(arg);
+        Y val = this.map.get(arg);
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(arg));
+            this.map.put(arg, val);
+        } else {
+            this.stats.hit();
         }
+        return val;
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Soft-reference cache of func results keyed by primitive long arguments.
+ * <p>
+ * Soft references to values are kept in {@link LongTable}, an
+ * open-addressing table of primitive keys, so lookups don't box keys and
+ * the only object per entry is the reference itself. Cleared references
+ * are removed using reference queue, see {@link SoftBiFunc} for details
+ * about soft-references lifecycle.
+ *
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class SoftLongFunc<Y> implements LongFunc<Y> {
+
+    /**
+     * Cached references.
+     */
+    private final LongTable<SoftLongFunc.Ref<Y>> table;
+
+    /**
+     * Queue of cleared references.
+     */
+    private final ReferenceQueue<Y> cleared;
+
+    /**
+     * Origin func.
+     */
+    private final LongFunc<Y> origin;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     */
+    public SoftLongFunc(final LongFunc<Y> func) {
+        this(func, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param stats Stats
+     */
+    public SoftLongFunc(final LongFunc<Y> func, final Stats stats) {
+        this.origin = func;
+        this.stats = stats;
+        // @checkstyle MagicNumberCheck (1 line)
+        this.table = new LongTable<>(16, false);
+        this.cleared = new ReferenceQueue<>();
+    }
+
+    @Override
+    public Y apply(final long arg) throws Exception {
+        this.expunge();
+        final SoftLongFunc.Ref<Y> ref = this.table.get(arg);
+        Y val = null;
+        if (ref != null) {
+            val = ref.get();
+        }
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(arg));
+            this.store(arg, val);
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Cache the value, null values are not cached.
+     *
+     * @param arg Argument
+     * @param val Value, can be null
+     */
+    private void store(final long arg, final Y val) {
+        if (val != null) {
+            this.table.put(arg, new SoftLongFunc.Ref<>(arg, val, this.cleared));
+        }
+    }
+
+    /**
+     * Remove cleared references from the table.
+     */
+    @SuppressWarnings(
+        {
+            "unchecked",
+            "PMD.CompareObjectsWithEquals"
+        }
+    )
+    private void expunge() {
+        for (Reference<? extends Y> ref = this.cleared.poll(); ref != null;
+            ref = this.cleared.poll()) {
+            final long key = ((SoftLongFunc.Ref<Y>) ref).key;
+            if (this.table.get(key) == ref) {
+                this.table.remove(key);
+                this.stats.evicted(Stats.Cause.COLLECTED);
+            }
+        }
+    }
+
+    /**
+     * Soft reference with primitive key.
+     *
+     * @param <Y> Value type
+     */
+    private static final class Ref<Y> extends SoftReference<Y> {
+
+        /**
+         * Key.
+         */
+        private final long key;
+
+        /**
+         * Ctor.
+         *
+         * @param key Key
+         * @param value Value
+         * @param queue Queue
+         */
+        Ref(final long key, final Y value, final ReferenceQueue<Y> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
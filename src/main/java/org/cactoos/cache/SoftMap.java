@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Map of soft-referenced values.
+ * <p>
+ * Cleared values are removed from the map using internal reference queue,
+ * only cleared entries are touched, so each operation takes constant time.
+ * If user's reference queue is provided, it will be notified about
+ * cleared values too.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @since 0.1
+ */
+final class SoftMap<K, V> {
+
+    /**
+     * Reference map.
+     */
+    private final Map<K, SoftEntry<K, V>> map;
+
+    /**
+     * Queue of cleared references.
+     */
+    private final ReferenceQueue<V> cleared;
+
+    /**
+     * User's reference queue.
+     */
+    private final ReferenceQueue<V> references;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param queue User's reference queue to notify, can be null
+     * @param stats Stats
+     */
+    SoftMap(final ReferenceQueue<V> queue, final Stats stats) {
+        this.map = new HashMap<>(0);
+        this.cleared = new ReferenceQueue<>();
+        this.references = queue;
+        this.stats = stats;
+    }
+
+    /**
+     * Value which was not cleared yet.
+     *
+     * @param key Key
+     * @return Value or null if absent or cleared
+     */
+    public V get(final K key) {
+        this.expunge();
+        final SoftEntry<K, V> ref = this.map.get(key);
+        V val = null;
+        if (ref != null) {
+            val = ref.get();
+        }
+        return val;
+    }
+
+    /**
+     * Put new value.
+     *
+     * @param key Key
+     * @param value Value
+     */
+    public void put(final K key, final V value) {
+        this.map.put(
+            key, new SoftEntry<>(key, value, this.cleared, this.references)
+        );
+    }
+
+    /**
+     * Remove the value.
+     *
+     * @param key Key
+     * @return Removed value or null if absent or cleared
+     */
+    public V remove(final K key) {
+        this.expunge();
+        final SoftEntry<K, V> ref = this.map.remove(key);
+        V val = null;
+        if (ref != null) {
+            val = ref.get();
+        }
+        return val;
+    }
+
+    /**
+     * Remove cleared references from the map.
+     */
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        for (Reference<? extends V> ref = this.cleared.poll(); ref != null;
+            ref = this.cleared.poll()) {
+            final SoftEntry<K, V> entry = (SoftEntry<K, V>) ref;
+            if (this.map.remove(entry.key(), entry)) {
+                this.stats.evicted(Stats.Cause.COLLECTED);
+            }
+        }
+    }
+}
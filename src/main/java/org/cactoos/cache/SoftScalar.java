@@ -24,13 +24,18 @@
  */
 package org.cactoos.cache;
 
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import javax.annotation.concurrent.NotThreadSafe;
-import org.cactoos.BiFunc;
 import org.cactoos.Scalar;
 
 /**
- * Scalar implementation based on {@link SoftBiFunc}.
+ * Scalar implementation which keeps its value in a {@link SoftReference}.
+ * <p>
+ * It's a single soft reference slot without any map, so reading cached
+ * value doesn't allocate any objects. See {@link SoftBiFunc} for details
+ * about soft-references lifecycle.
  *
  * @param <T> Result type
  * @since 0.1
@@ -39,74 +44,78 @@ import org.cactoos.Scalar;
 public final class SoftScalar<T> implements Scalar<T> {
 
     /**
-     * Dummy key for {@link SoftBiFunc} argument.
+     * Empty reference.
      */
-    private static final Object KEY = new Object();
+    private static final Reference<Object> EMPTY = new SoftReference<>(null);
 
     /**
-     * Origin func.
+     * Origin scalar.
      */
-    private final SoftBiFunc<Object, Object, T> origin;
+    private final Scalar<T> origin;
+
+    /**
+     * Reference queue to notify, can be null.
+     */
+    private final ReferenceQueue<T> references;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Cached value.
+     */
+    private Reference<T> cached;
 
     /**
      * Ctor.
      *
      * @param scalar Origin scalar
-     * @param queue Reference queue
      */
-    public SoftScalar(final Scalar<T> scalar, final ReferenceQueue<T> queue) {
-        this(new SoftBiFunc<>(new SoftScalar.ScalarWrap<>(scalar), queue));
+    public SoftScalar(final Scalar<T> scalar) {
+        this(scalar, null);
     }
 
     /**
      * Ctor.
      *
      * @param scalar Origin scalar
+     * @param queue Reference queue to notify, can be null
      */
-    public SoftScalar(final Scalar<T> scalar) {
-        this(new SoftBiFunc<>(new SoftScalar.ScalarWrap<>(scalar)));
+    public SoftScalar(final Scalar<T> scalar, final ReferenceQueue<T> queue) {
+        this(scalar, queue, new Stats.None());
     }
 
     /**
      * Primary ctor.
      *
-     * @param func Origin func
+     * @param scalar Origin scalar
+     * @param queue Reference queue to notify, can be null
+     * @param stats Stats
      */
-    private SoftScalar(final SoftBiFunc<Object, Object, T> func) {
-        this.origin = func;
+    @SuppressWarnings("unchecked")
+    public SoftScalar(final Scalar<T> scalar, final ReferenceQueue<T> queue,
+        final Stats stats) {
+        this.origin = scalar;
+        this.references = queue;
+        this.stats = stats;
+        this.cached = (Reference<T>) SoftScalar.EMPTY;
     }
 
     @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
     public T value() throws Exception {
-        return this.origin.apply(SoftScalar.KEY, SoftScalar.KEY);
-    }
-
-    /**
-     * Decorator for {@link Scalar} to be {@link BiFunc}.
-     *
-     * @param <T> Result type
-     */
-    private static final class ScalarWrap<T> implements
-        BiFunc<Object, Object, T> {
-
-        /**
-         * Origin scalar.
-         */
-        private final Scalar<T> origin;
-
-        /**
-         * Ctor.
-         *
-         * @param scalar Origin scalar
-         */
-        private ScalarWrap(final Scalar<T> scalar) {
-            this.origin = scalar;
-        }
-
-        @Override
-        public T apply(final Object first, final Object second)
-            throws Exception {
-            return this.origin.value();
+        T val = this.cached.get();
+        if (val == null) {
+            if (this.cached != SoftScalar.EMPTY) {
+                this.stats.evicted(Stats.Cause.COLLECTED);
+            }
+            val = this.stats.miss(this.origin);
+            this.cached = new SoftReference<>(val, this.references);
+        } else {
+            this.stats.hit();
         }
+        return val;
     }
 }
@@ -28,12 +28,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
 import java.lang.ref.ReferenceQueue;
 import javax.annotation.concurrent.NotThreadSafe;
-import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
 import org.cactoos.Text;
-import org.cactoos.func.IoCheckedBiFunc;
+import org.cactoos.scalar.IoCheckedScalar;
 
 /**
- * Text implementation based on {@link SoftBiFunc}.
+ * Text implementation based on {@link SoftScalar}.
  *
  * @since 0.1
  */
@@ -41,54 +41,52 @@ import org.cactoos.func.IoCheckedBiFunc;
 public final class SoftText implements Text {
 
     /**
-     * Dummy key for {@link SoftBiFunc} argument.
+     * Origin scalar.
      */
-    private static final Object KEY = new Object();
-
-    /**
-     * Origin func.
-     */
-    private final SoftBiFunc<Object, Object, String> origin;
+    private final IoCheckedScalar<String> origin;
 
     /**
      * Ctor.
      *
      * @param text Origin text
-     * @param queue Reference queue
      */
-    public SoftText(final Text text, final ReferenceQueue<String> queue) {
-        this(new SoftBiFunc<>(new SoftText.TextWrap(text), queue));
+    public SoftText(final Text text) {
+        this(text, null);
     }
 
     /**
      * Ctor.
      *
      * @param text Origin text
+     * @param queue Reference queue to notify, can be null
      */
-    public SoftText(final Text text) {
-        this(new SoftBiFunc<>(new SoftText.TextWrap(text)));
+    public SoftText(final Text text, final ReferenceQueue<String> queue) {
+        this(text, queue, new Stats.None());
     }
 
     /**
      * Primary ctor.
      *
-     * @param origin Origin func
+     * @param text Origin text
+     * @param queue Reference queue to notify, can be null
+     * @param stats Stats
      */
-    private SoftText(final SoftBiFunc<Object, Object, String> origin) {
-        this.origin = origin;
+    public SoftText(final Text text, final ReferenceQueue<String> queue,
+        final Stats stats) {
+        this.origin = new IoCheckedScalar<>(
+            new SoftScalar<>(new SoftText.Unintern(text), queue, stats)
+        );
     }
 
     @Override
     public String asString() throws IOException {
-        return new IoCheckedBiFunc<>(this.origin)
-            .apply(SoftText.KEY, SoftText.KEY);
+        return this.origin.value();
     }
 
     /**
-     * Decorator for {@link Text} to be {@link BiFunc}.
+     * Copy of the {@link Text}, which is not shared with string pool.
      */
-    private static final class TextWrap
-        implements BiFunc<Object, Object, String> {
+    private static final class Unintern implements Scalar<String> {
 
         /**
          * Origin text.
@@ -100,7 +98,7 @@ public final class SoftText implements Text {
          *
          * @param text Origin text
          */
-        private TextWrap(final Text text) {
+        private Unintern(final Text text) {
             this.origin = text;
         }
 
@@ -110,8 +108,7 @@ public final class SoftText implements Text {
             value = "DM_STRING_CTOR",
             justification = "unintern string reference"
         )
-        public String apply(final Object first, final Object second)
-            throws Exception {
+        public String value() throws Exception {
             return new String(this.origin.asString());
         }
     }
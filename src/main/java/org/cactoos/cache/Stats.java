@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import org.cactoos.Scalar;
+
+/**
+ * Cache statistics receiver.
+ * <p>
+ * Caches report each lookup as a hit or a miss and each removal of cached
+ * value with its cause. Stats are opt-in: all caches use
+ * {@link Stats.None} by default, pass {@link CacheStats} to the cache
+ * constructor to collect them.
+ *
+ * @since 0.1
+ */
+public interface Stats {
+
+    /**
+     * Cached value was found.
+     */
+    void hit();
+
+    /**
+     * Cached value was not found and should be loaded.
+     *
+     * @param load Loading of the value
+     * @param <T> Value type
+     * @return Loaded value
+     * @throws Exception If loading fails
+     */
+    <T> T miss(Scalar<T> load) throws Exception;
+
+    /**
+     * Cached value was removed from the cache.
+     *
+     * @param cause Removal cause
+     */
+    void evicted(Stats.Cause cause);
+
+    /**
+     * Cause of cached value removal.
+     */
+    enum Cause {
+        /**
+         * Cache was full.
+         */
+        SIZE,
+        /**
+         * Value was cleared by garbage collector.
+         */
+        COLLECTED,
+        /**
+         * Value was expired.
+         */
+        EXPIRED
+    }
+
+    /**
+     * Stats which ignore everything.
+     *
+     * @since 0.1
+     */
+    final class None implements Stats {
+
+        @Override
+        public void hit() {
+            // nothing to count
+        }
+
+        @Override
+        public <T> T miss(final Scalar<T> load) throws Exception {
+            return load.value();
+        }
+
+        @Override
+        public void evicted(final Stats.Cause cause) {
+            // nothing to count
+        }
+    }
+}
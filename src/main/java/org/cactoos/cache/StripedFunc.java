@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Thread-safe func over lock stripes of not thread-safe caches.
+ * <p>
+ * Each key is mapped to one stripe, each stripe is a cache with own lock,
+ * which is held while the cache is used, including its loader call. So
+ * the loader should be cheap, like creation of an empty slot.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@ThreadSafe
+final class StripedFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Cache stripes.
+     */
+    private final Stripes<Func<X, Y>> stripes;
+
+    /**
+     * Ctor.
+     *
+     * @param stripe Factory of stripe caches
+     */
+    StripedFunc(final Func<Integer, Func<X, Y>> stripe) {
+        this.stripes = new Stripes<>(
+            Stripes.CONCURRENCY, (idx, count) -> stripe.apply(idx)
+        );
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        final Func<X, Y> cache = this.stripes.stripe(arg);
+        synchronized (cache) {
+            return cache.apply(arg);
+        }
+    }
+}
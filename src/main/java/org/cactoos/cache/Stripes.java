@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.cactoos.BiFunc;
+import org.cactoos.func.UncheckedBiFunc;
+
+/**
+ * Fixed set of lock stripes.
+ * <p>
+ * Each key is mapped to one stripe by its hash code, so different keys
+ * are spread over independent stripes and can be processed concurrently.
+ * Stripes count is always rounded down to the power of two.
+ *
+ * @param <T> Stripe type
+ * @since 0.1
+ */
+final class Stripes<T> {
+
+    /**
+     * Default stripes count for current runtime.
+     */
+    public static final int CONCURRENCY =
+        // @checkstyle MagicNumberCheck (1 line)
+        Runtime.getRuntime().availableProcessors() * 4;
+
+    /**
+     * Stripes.
+     */
+    private final List<T> items;
+
+    /**
+     * Ctor.
+     *
+     * @param count Maximal stripes count
+     * @param stripe Stripe factory, accepts index of the stripe and
+     *  actual number of stripes
+     */
+    Stripes(final int count, final BiFunc<Integer, Integer, T> stripe) {
+        this.items = Stripes.fill(count, new UncheckedBiFunc<>(stripe));
+    }
+
+    /**
+     * Stripe for a key.
+     *
+     * @param key Key, can be null
+     * @return Stripe
+     */
+    public T stripe(final Object key) {
+        final int hash = Objects.hashCode(key);
+        return this.items.get(
+            (hash ^ hash >>> Integer.SIZE / 2) & this.items.size() - 1
+        );
+    }
+
+    /**
+     * Create stripes.
+     *
+     * @param count Maximal stripes count
+     * @param stripe Stripe factory
+     * @param <T> Stripe type
+     * @return Stripes list, which size is a power of two
+     */
+    private static <T> List<T> fill(final int count,
+        final UncheckedBiFunc<Integer, Integer, T> stripe) {
+        if (count < 1) {
+            throw new IllegalArgumentException(
+                String.format("Stripes count %d is not positive", count)
+            );
+        }
+        final int size = Integer.highestOneBit(count);
+        final List<T> list = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            list.add(stripe.apply(idx, size));
+        }
+        return list;
+    }
+}
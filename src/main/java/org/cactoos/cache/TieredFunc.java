@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Two-tier cache func: memory cache in front of persistent disk store.
+ * <p>
+ * Memory misses are looked up in {@link DiskStore}, and only disk misses
+ * call origin func. Values are written to the disk when they are computed,
+ * so values evicted or cleared from memory by {@link Retention} policy, as
+ * well as values computed before restart, are read from the disk instead
+ * of computing them again. Null results are not written to the disk.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class TieredFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Memory tier.
+     */
+    private final Func<X, Y> memory;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param retention Retention policy of memory tier
+     * @param disk Disk tier
+     */
+    public TieredFunc(final Func<X, Y> func, final Retention retention,
+        final DiskStore<X, Y> disk) {
+        this.memory = retention.cache(
+            key -> {
+                Y val = disk.get(key);
+                if (val == null) {
+                    val = func.apply(key);
+                    TieredFunc.store(disk, key, val);
+                }
+                return val;
+            }
+        );
+    }
+
+    @Override
+    public Y apply(final X arg) throws Exception {
+        return this.memory.apply(arg);
+    }
+
+    /**
+     * Write the value to the disk, if it's not null.
+     *
+     * @param disk Disk tier
+     * @param key Key
+     * @param val Value, can be null
+     * @param <X> Key type
+     * @param <Y> Value type
+     * @throws Exception If writing fails
+     */
+    private static <X, Y> void store(final DiskStore<X, Y> disk, final X key,
+        final Y val) throws Exception {
+        if (val != null) {
+            disk.put(key, val);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.Func;
+
+/**
+ * Func implementation which caches func results with W-TinyLFU policy.
+ * <p>
+ * Access frequencies of all keys, including evicted and never cached
+ * ones, are counted in a {@link FrequencySketch} of constant size, which
+ * periodically halves its counters. New values are cached in a small LRU
+ * window (1% of the size), a value evicted from the window is admitted to
+ * the main LRU space only if its key is used more frequently than the key
+ * of main space victim. So one-off keys of a scan don't push frequently
+ * used values out of the cache, but new popular keys still get in.
+ * <p>
+ * Values are kept by strong references. Func arguments must implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} methods
+ * to be used as cache keys.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class TinyLfuFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Window values in access order, eldest first.
+     */
+    private final Map<X, Y> window;
+
+    /**
+     * Main space values in access order, eldest first.
+     */
+    private final Map<X, Y> main;
+
+    /**
+     * Access frequencies.
+     */
+    private final FrequencySketch sketch;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Window capacity.
+     */
+    private final int wcap;
+
+    /**
+     * Main space capacity.
+     */
+    private final int mcap;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     */
+    public TinyLfuFunc(final Func<X, Y> func, final int size) {
+        this(func, size, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param size Cache size
+     * @param stats Stats
+     */
+    public TinyLfuFunc(final Func<X, Y> func, final int size,
+        final Stats stats) {
+        this.origin = func;
+        // @checkstyle MagicNumberCheck (1 line)
+        this.wcap = Math.max(1, size / 100);
+        this.mcap = Math.max(0, size - this.wcap);
+        // @checkstyle MagicNumberCheck (2 lines)
+        this.window = new LinkedHashMap<>(16, 0.75F, true);
+        this.main = new LinkedHashMap<>(16, 0.75F, true);
+        this.sketch = new FrequencySketch(size);
+        this.stats = stats;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        this.sketch.increment(input);
+        Y val = this.window.get(input);
+        if (val == null) {
+            val = this.main.get(input);
+        }
+        if (val == null) {
+            val = this.stats.miss(() -> this.origin.apply(input));
+            this.window.put(input, val);
+            if (this.window.size() > this.wcap) {
+                this.admit();
+            }
+        } else {
+            this.stats.hit();
+        }
+        return val;
+    }
+
+    /**
+     * Move eldest window value to the main space, if its key is used
+     * more frequently than the key of main space victim.
+     */
+    private void admit() {
+        final Iterator<Map.Entry<X, Y>> eldest =
+            this.window.entrySet().iterator();
+        final Map.Entry<X, Y> candidate = eldest.next();
+        eldest.remove();
+        if (this.main.size() < this.mcap) {
+            this.main.put(candidate.getKey(), candidate.getValue());
+        } else {
+            final Iterator<X> victims = this.main.keySet().iterator();
+            if (victims.hasNext()
+                && this.sketch.frequency(candidate.getKey())
+                > this.sketch.frequency(victims.next())) {
+                victims.remove();
+                this.main.put(candidate.getKey(), candidate.getValue());
+            }
+            this.stats.evicted(Stats.Cause.SIZE);
+        }
+    }
+}
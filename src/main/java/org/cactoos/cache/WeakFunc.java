@@ -24,8 +24,10 @@
  */
 package org.cactoos.cache;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.WeakHashMap;
 import javax.annotation.concurrent.NotThreadSafe;
 import org.cactoos.Func;
 
@@ -34,6 +36,14 @@ import org.cactoos.Func;
  * to store func <b>arguments</b> (not values). It means that func value
  * will be available as strong reference until func key will be available
  * through strong reference or soft reference chain.
+ * <p>
+ * Keys are compared by {@link Equivalence}, by default it's
+ * {@link Equivalence.Equals}. Use {@link Equivalence.Identity} for keys
+ * with expensive {@link Object#equals(Object)} and
+ * {@link Object#hashCode()}, or a custom equivalence which uses hash
+ * codes cached inside of keys. Null arguments are never cached, unlike
+ * in {@link java.util.WeakHashMap}: origin func is called for a null
+ * argument every time.
  *
  * @param <X> Argument type
  * @param <Y> Result type
@@ -43,33 +53,115 @@ import org.cactoos.Func;
 public final class WeakFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Weak map.
+     * Values by weak keys.
      */
-    private final Map<X, Y> map;
+    private final Map<WeakKey<X>, Y> map;
+
+    /**
+     * Queue of collected keys.
+     */
+    private final ReferenceQueue<X> collected;
 
     /**
      * Origin func.
      */
     private final Func<X, Y> origin;
 
+    /**
+     * Key equivalence.
+     */
+    private final Equivalence<X> equivalence;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
     /**
      * Ctor.
      *
      * @param func Origin func
      */
     public WeakFunc(final Func<X, Y> func) {
+        this(func, new Equivalence.Equals<>());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param stats Stats
+     */
+    public WeakFunc(final Func<X, Y> func, final Stats stats) {
+        this(func, new Equivalence.Equals<>(), stats);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param equivalence Key equivalence
+     */
+    public WeakFunc(final Func<X, Y> func,
+        final Equivalence<X> equivalence) {
+        this(func, equivalence, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param equivalence Key equivalence
+     * @param stats Stats
+     */
+    public WeakFunc(final Func<X, Y> func, final Equivalence<X> equivalence,
+        final Stats stats) {
         this.origin = func;
-        // @checkstyle MagicNumberCheck (1 line)
-        this.map = new WeakHashMap<>(16, 0.75F);
+        this.equivalence = equivalence;
+        this.map = new HashMap<>(0);
+        this.collected = new ReferenceQueue<>();
+        this.stats = stats;
     }
 
     @Override
     public Y apply(final X arg) throws Exception {
-        Y val = this.map.get(arg);
+        this.expunge();
+        Y val = null;
+        if (arg != null) {
+            val = this.map.get(new KeyProbe<>(arg, this.equivalence));
+        }
         if (val == null) {
-            val = this.origin.apply(arg);
-            this.map.put(arg, val);
+            val = this.stats.miss(() -> this.origin.apply(arg));
+            this.store(arg, val);
+        } else {
+            this.stats.hit();
         }
         return val;
     }
+
+    /**
+     * Cache the value.
+     *
+     * @param arg Argument, can be null
+     * @param val Value
+     */
+    private void store(final X arg, final Y val) {
+        if (arg != null) {
+            this.map.put(
+                new WeakKey<>(arg, this.equivalence, this.collected), val
+            );
+        }
+    }
+
+    /**
+     * Remove values of collected keys from the map.
+     */
+    private void expunge() {
+        for (Reference<? extends X> ref = this.collected.poll(); ref != null;
+            ref = this.collected.poll()) {
+            if (this.map.remove(ref) != null) {
+                this.stats.evicted(Stats.Cause.COLLECTED);
+            }
+        }
+    }
 }
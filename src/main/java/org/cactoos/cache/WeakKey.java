@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Weak reference to a cache key compared by {@link Equivalence}.
+ * <p>
+ * Hash code of the key is computed once, so the reference can be found
+ * and removed from the cache after the key is collected. Use
+ * {@link KeyProbe} to look up values by keys.
+ *
+ * @param <T> Key type
+ * @since 0.1
+ */
+final class WeakKey<T> extends WeakReference<T> implements ReferentKey<T> {
+
+    /**
+     * Equivalence.
+     */
+    private final Equivalence<T> equivalence;
+
+    /**
+     * Hash code.
+     */
+    private final int hash;
+
+    /**
+     * Ctor.
+     *
+     * @param key Key, not null
+     * @param equivalence Equivalence
+     * @param queue Queue to register with
+     */
+    WeakKey(final T key, final Equivalence<T> equivalence,
+        final ReferenceQueue<? super T> queue) {
+        super(key, queue);
+        this.equivalence = equivalence;
+        this.hash = equivalence.hash(key);
+    }
+
+    @Override
+    public T referent() {
+        return this.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(final Object other) {
+        return this == other || other instanceof ReferentKey
+            && this.hash == other.hashCode()
+            && this.same((ReferentKey<T>) other);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * Both keys are alive and equivalent.
+     *
+     * @param other Other key
+     * @return TRUE if they are
+     */
+    private boolean same(final ReferentKey<T> other) {
+        final T mine = this.get();
+        final T theirs = other.referent();
+        return mine != null && theirs != null
+            && this.equivalence.equivalent(mine, theirs);
+    }
+}
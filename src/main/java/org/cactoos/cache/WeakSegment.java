@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Segment of a concurrent weak-key table.
+ * <p>
+ * Each segment has its own lock and its own queue of collected keys.
+ * Both lookups and insertions drain the queue under the lock, at most
+ * {@link #DRAIN} references per call, so the cost of expunging is
+ * spread over calls, each call takes constant time, and values of
+ * collected keys are released even if the segment is only read.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @since 0.1
+ */
+@ThreadSafe
+final class WeakSegment<K, V> {
+
+    /**
+     * Max count of collected keys removed by one insertion.
+     */
+    public static final int DRAIN = 64;
+
+    /**
+     * Values by weak keys, guarded by itself.
+     */
+    private final Map<WeakKey<K>, V> map;
+
+    /**
+     * Queue of collected keys.
+     */
+    private final ReferenceQueue<K> collected;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param stats Stats, must be thread-safe
+     */
+    WeakSegment(final Stats stats) {
+        this.map = new HashMap<>(0);
+        this.collected = new ReferenceQueue<>();
+        this.stats = stats;
+    }
+
+    /**
+     * Value for the key.
+     *
+     * @param key Lookup key
+     * @return Value or null if absent
+     */
+    public V get(final KeyProbe<K> key) {
+        synchronized (this.map) {
+            this.expunge();
+            return this.map.get(key);
+        }
+    }
+
+    /**
+     * Put the value, if there is no value for the key yet.
+     *
+     * @param key Key
+     * @param equivalence Key equivalence
+     * @param value Value
+     * @return Cached value, existing or the new one
+     */
+    public V putIfAbsent(final K key, final Equivalence<K> equivalence,
+        final V value) {
+        final WeakKey<K> ref = new WeakKey<>(key, equivalence, this.collected);
+        synchronized (this.map) {
+            this.expunge();
+            V val = this.map.get(ref);
+            if (val == null) {
+                this.map.put(ref, value);
+                val = value;
+            }
+            return val;
+        }
+    }
+
+    /**
+     * Remove some values of collected keys.
+     */
+    private void expunge() {
+        int left = WeakSegment.DRAIN;
+        Reference<? extends K> ref = this.collected.poll();
+        while (ref != null) {
+            if (this.map.remove(ref) != null) {
+                this.stats.evicted(Stats.Cause.COLLECTED);
+            }
+            --left;
+            ref = this.next(left);
+        }
+    }
+
+    /**
+     * Next collected key to remove.
+     *
+     * @param left How many keys can be removed yet
+     * @return Reference or null if the queue is empty or nothing is left
+     */
+    private Reference<? extends K> next(final int left) {
+        Reference<? extends K> ref = null;
+        if (left > 0) {
+            ref = this.collected.poll();
+        }
+        return ref;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+
+/**
+ * Func implementation which caches most recently used func results
+ * until their total weight fits a budget.
+ * <p>
+ * Weight of each value is computed once, when the value is cached,
+ * by a weigher func of argument and result, e.g. size of the value in
+ * bytes. When total weight exceeds the budget least recently used values
+ * are evicted, each value is evicted once, so eviction is O(1) amortized.
+ * A value heavier than the whole budget is returned, but not cached.
+ * <p>
+ * Like in {@link LruFunc} values are kept by strong references.
+ *
+ * @param <X> Argument type
+ * @param <Y> Result type
+ * @since 0.1
+ */
+@NotThreadSafe
+public final class WeighedLruFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Cached values in access order, eldest first.
+     */
+    private final Map<X, WeighedLruFunc.Weighed<Y>> map;
+
+    /**
+     * Origin func.
+     */
+    private final Func<X, Y> origin;
+
+    /**
+     * Weigher.
+     */
+    private final BiFunc<X, Y, Integer> weigher;
+
+    /**
+     * Max total weight.
+     */
+    private final long budget;
+
+    /**
+     * Stats.
+     */
+    private final Stats stats;
+
+    /**
+     * Total weight of cached values.
+     */
+    private long total;
+
+    /**
+     * Ctor.
+     *
+     * @param func Origin func
+     * @param weigher Weight of a value, must be non-negative
+     * @param budget Max total weight
+     */
+    public WeighedLruFunc(final Func<X, Y> func,
+        final BiFunc<X, Y, Integer> weigher, final long budget) {
+        this(func, weigher, budget, new Stats.None());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param func Origin func
+     * @param weigher Weight of a value, must be non-negative
+     * @param budget Max total weight
+     * @param stats Stats
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public WeighedLruFunc(final Func<X, Y> func,
+        final BiFunc<X, Y, Integer> weigher, final long budget,
+        final Stats stats) {
+        this.origin = func;
+        this.weigher = weigher;
+        this.budget = budget;
+        this.stats = stats;
+        // @checkstyle MagicNumberCheck (1 line)
+        this.map = new LinkedHashMap<>(16, 0.75F, true);
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final WeighedLruFunc.Weighed<Y> cached = this.map.get(input);
+        final Y val;
+        if (cached == null) {
+            val = this.stats.miss(() -> this.origin.apply(input));
+            this.store(input, val);
+        } else {
+            this.stats.hit();
+            val = cached.value;
+        }
+        return val;
+    }
+
+    /**
+     * Total weight of cached values.
+     *
+     * @return Weight
+     */
+    public long weight() {
+        return this.total;
+    }
+
+    /**
+     * Cache the value and evict least recently used values
+     * until total weight fits the budget.
+     *
+     * @param key Key
+     * @param value Value
+     * @throws Exception If weigher fails
+     */
+    private void store(final X key, final Y value) throws Exception {
+        final int weight = this.weigher.apply(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException(
+                String.format("Negative weight %d of %s", weight, key)
+            );
+        }
+        if (weight <= this.budget) {
+            this.map.put(key, new WeighedLruFunc.Weighed<>(value, weight));
+            this.total += weight;
+            final Iterator<WeighedLruFunc.Weighed<Y>> eldest =
+                this.map.values().iterator();
+            while (this.total > this.budget) {
+                this.total -= eldest.next().weight;
+                eldest.remove();
+                this.stats.evicted(Stats.Cause.SIZE);
+            }
+        }
+    }
+
+    /**
+     * Value with its weight.
+     *
+     * @param <Y> Value type
+     */
+    private static final class Weighed<Y> {
+
+        /**
+         * Value.
+         */
+        private final Y value;
+
+        /**
+         * Weight.
+         */
+        private final int weight;
+
+        /**
+         * Ctor.
+         *
+         * @param value Value
+         * @param weight Weight
+         */
+        Weighed(final Y value, final int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
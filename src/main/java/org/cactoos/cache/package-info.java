@@ -27,7 +27,8 @@
  * and {@link java.lang.ref.WeakReference} capacities.
  * <p>
  * There are {@link org.cactoos.Func}, {@link org.cactoos.BiFunc},
- * {@link org.cactoos.Scalar} and {@link org.cactoos.Text} implementations
+ * {@link org.cactoos.Scalar}, {@link org.cactoos.Text} and
+ * {@link org.cactoos.Bytes} implementations
  * based on soft-references, but only {@link org.cactoos.Func} implementation
  * based on weak-references. It's not a bug, it's by design, because most
  * probably you don't need to keep func or text results in weak-references,
@@ -40,8 +41,6 @@
  * Most documented base classes here are: {@link org.cactoos.cache.SoftBiFunc}
  * and {@link org.cactoos.cache.WeakFunc}, all other classes are based on
  * these two classes decorating them.
- * @todo #1:30min Add `SoftBytes` class which should implement `Bytes`
- *  interface and uses `SoftReference` to cache byte[] value.
  *
  * @since 0.1
  */
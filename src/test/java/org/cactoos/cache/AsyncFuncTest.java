@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link AsyncFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class AsyncFuncTest {
+    @Test
+    public void doesNotBlockCallerDuringLoad() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Func<Integer, CompletableFuture<Integer>> target =
+                new AsyncFunc<>(
+                    arg -> {
+                        release.await();
+                        return arg * 2;
+                    },
+                    new Retention.Lru(10),
+                    executor
+                );
+            final CompletableFuture<Integer> future = target.apply(21);
+            MatcherAssert.assertThat(future.isDone(), Matchers.is(false));
+            MatcherAssert.assertThat(
+                target.apply(21), Matchers.sameInstance(future)
+            );
+            release.countDown();
+            MatcherAssert.assertThat(future.get(), Matchers.equalTo(42));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void dropsFailedFutures() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, CompletableFuture<Integer>> target =
+            new AsyncFunc<>(
+                arg -> {
+                    if (cnt.incrementAndGet() == 1) {
+                        throw new IOException("first load fails");
+                    }
+                    return arg;
+                },
+                new Retention.Soft(),
+                Runnable::run
+            );
+        MatcherAssert.assertThat(
+            target.apply(1).handle((val, err) -> err).get(),
+            Matchers.instanceOf(IOException.class)
+        );
+        MatcherAssert.assertThat(target.apply(1).get(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(target.apply(1).get(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void forgetsExpiredFutures() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final BiFunc<Integer, Integer, CompletableFuture<Integer>> target =
+            new AsyncBiFunc<>(
+                (first, second) -> cnt.incrementAndGet(),
+                new Retention.Expiring(Duration.ZERO),
+                Runnable::run
+            );
+        target.apply(1, 2).get();
+        Thread.sleep(5L);
+        MatcherAssert.assertThat(
+            target.apply(1, 2).get(), Matchers.equalTo(2)
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWeakRetentionOfPairs() {
+        new AsyncBiFunc<Integer, Integer, Integer>(
+            (first, second) -> first + second, new Retention.Weak()
+        );
+    }
+
+    @Test
+    public void completesFutureWithError() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Func<Integer, CompletableFuture<Integer>> target =
+                new AsyncFunc<>(
+                    arg -> {
+                        throw new LinkageError("broken");
+                    },
+                    new Retention.Lru(10),
+                    executor::submit
+                );
+            MatcherAssert.assertThat(
+                target.apply(1).handle((val, err) -> err).get(),
+                Matchers.instanceOf(LinkageError.class)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void sharesFutureBetweenThreads() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, CompletableFuture<Integer>> target =
+            new AsyncFunc<>(
+                arg -> cnt.incrementAndGet(),
+                new Retention.Lru(10)
+            );
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<CompletableFuture<Integer>>> futures =
+                new ArrayList<>(8);
+            for (int idx = 0; idx < 8; ++idx) {
+                futures.add(
+                    threads.submit(
+                        () -> {
+                            start.await();
+                            return target.apply(1);
+                        }
+                    )
+                );
+            }
+            start.countDown();
+            for (final Future<CompletableFuture<Integer>> res : futures) {
+                MatcherAssert.assertThat(
+                    res.get().get(), Matchers.equalTo(1)
+                );
+            }
+        } finally {
+            threads.shutdown();
+        }
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+
+    @Test(expected = CompletionException.class)
+    public void failsWhenExecutorRejectsLoad() throws Exception {
+        new AsyncFunc<Integer, Integer>(
+            arg -> arg,
+            new Retention.Weak(),
+            task -> {
+                throw new RejectedExecutionException();
+            }
+        ).apply(1).join();
+    }
+}
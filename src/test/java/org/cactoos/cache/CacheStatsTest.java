@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Duration;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CacheStats}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class CacheStatsTest {
+    @Test
+    public void countsHitsAndMisses() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Integer> target = new ConcurrentLruFunc<>(
+            arg -> arg, 10, 1, stats
+        );
+        target.apply(1);
+        target.apply(1);
+        target.apply(1);
+        target.apply(2);
+        MatcherAssert.assertThat(stats.hits(), Matchers.equalTo(2L));
+        MatcherAssert.assertThat(stats.misses(), Matchers.equalTo(2L));
+        MatcherAssert.assertThat(stats.hitRate(), Matchers.equalTo(0.5));
+    }
+
+    @Test
+    public void countsEvictionsBySize() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Integer> target = new ConcurrentLruFunc<>(
+            arg -> arg, 2, 1, stats
+        );
+        for (int idx = 0; idx < 5; ++idx) {
+            target.apply(idx);
+        }
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.SIZE), Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    public void countsExpiredValues() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final FakeClock clock = new FakeClock();
+        final BiFunc<Integer, Integer, Integer> target = new ExpiringBiFunc<>(
+            (first, second) -> first + second,
+            Duration.ofSeconds(1L), Expiry.AFTER_WRITE, clock, stats
+        );
+        target.apply(1, 2);
+        target.apply(2, 3);
+        clock.forward(Duration.ofSeconds(2L));
+        target.apply(1, 2);
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.EXPIRED), Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(stats.misses(), Matchers.equalTo(3L));
+    }
+
+    @Test
+    public void measuresLoadTimePercentiles() throws Exception {
+        final CacheStats stats = new CacheStats();
+        for (int idx = 0; idx < 99; ++idx) {
+            stats.miss(() -> 1);
+        }
+        stats.miss(
+            () -> {
+                Thread.sleep(50L);
+                return 0;
+            }
+        );
+        MatcherAssert.assertThat(
+            stats.loadTime(0.5),
+            Matchers.lessThan(Duration.ofMillis(50L))
+        );
+        MatcherAssert.assertThat(
+            stats.loadTime(1.0),
+            Matchers.greaterThanOrEqualTo(Duration.ofMillis(50L))
+        );
+    }
+
+    @Test
+    public void reportsNothingWithoutLookups() {
+        final CacheStats stats = new CacheStats();
+        MatcherAssert.assertThat(stats.hitRate(), Matchers.equalTo(0.0));
+        MatcherAssert.assertThat(
+            stats.loadTime(0.99), Matchers.equalTo(Duration.ZERO)
+        );
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CachedBulkFunc} and {@link BatchingFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class CachedBulkFuncTest {
+    @Test
+    public void loadsAllMissesAtOnce() throws Exception {
+        final List<Collection<Integer>> calls = new CopyOnWriteArrayList<>();
+        final CachedBulkFunc<Integer, String> target = new CachedBulkFunc<>(
+            new CachedBulkFuncTest.Loader(calls), new Retention.Lru(10)
+        );
+        target.apply(2);
+        final Map<Integer, String> result =
+            target.applyAll(Arrays.asList(1, 2, 3, -1));
+        MatcherAssert.assertThat(result.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(result.get(3), Matchers.equalTo("3"));
+        MatcherAssert.assertThat(calls.size(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(
+            calls.get(1), Matchers.containsInAnyOrder(1, 3, -1)
+        );
+    }
+
+    @Test
+    public void coalescesConcurrentMisses() throws Exception {
+        final List<Collection<Integer>> calls = new CopyOnWriteArrayList<>();
+        final BulkFunc<Integer, String> target =
+            new BatchingFunc<>(
+                new CachedBulkFuncTest.Loader(calls), Duration.ofMillis(200L)
+            );
+        final ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Map<Integer, String>> first = threads.submit(
+                () -> target.applyAll(Arrays.asList(1, 2))
+            );
+            Thread.sleep(50L);
+            final Future<Map<Integer, String>> second = threads.submit(
+                () -> target.applyAll(Arrays.asList(2, 3))
+            );
+            MatcherAssert.assertThat(first.get().get(2), Matchers.equalTo("2"));
+            MatcherAssert.assertThat(
+                second.get().get(3), Matchers.equalTo("3")
+            );
+        } finally {
+            threads.shutdown();
+        }
+        MatcherAssert.assertThat(calls.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            calls.get(0), Matchers.containsInAnyOrder(1, 2, 3)
+        );
+    }
+
+    @Test
+    public void returnsNothingForNoArguments() throws Exception {
+        final List<Collection<Integer>> calls = new CopyOnWriteArrayList<>();
+        MatcherAssert.assertThat(
+            new BatchingFunc<>(
+                new CachedBulkFuncTest.Loader(calls), Duration.ofSeconds(1L)
+            ).applyAll(Collections.emptyList()).isEmpty(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(calls.isEmpty(), Matchers.is(true));
+    }
+
+    /**
+     * Loader of non-negative numbers, which remembers its calls.
+     */
+    private static final class Loader implements
+        BulkFunc<Integer, String> {
+
+        /**
+         * Calls.
+         */
+        private final List<Collection<Integer>> calls;
+
+        /**
+         * Ctor.
+         * @param calls Calls
+         */
+        Loader(final List<Collection<Integer>> calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public Map<Integer, String> applyAll(
+            final Collection<Integer> keys) {
+            this.calls.add(new ArrayList<>(keys));
+            final Map<Integer, String> map = new HashMap<>(keys.size());
+            for (final Integer key : keys) {
+                if (key >= 0) {
+                    map.put(key, String.valueOf(key));
+                }
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ClockFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ClockFuncTest {
+    @Test
+    public void givesSecondChanceToUsedValues() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Integer> target = new ClockFunc<>(
+            arg -> cnt.incrementAndGet(), 2
+        );
+        target.apply(1);
+        target.apply(2);
+        target.apply(1);
+        target.apply(3);
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        MatcherAssert.assertThat(target.apply(2), Matchers.equalTo(4));
+    }
+
+    @Test
+    public void evictsBeyondSize() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Integer> target = new ClockFunc<>(
+            arg -> arg, 100, stats
+        );
+        for (int idx = 0; idx < 300; ++idx) {
+            target.apply(idx);
+        }
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.SIZE),
+            Matchers.equalTo(200L)
+        );
+    }
+
+    @Test
+    public void cachesNothingWithZeroSize() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Integer> target = new ClockFunc<>(
+            arg -> cnt.incrementAndGet(), 0
+        );
+        target.apply(1);
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void cachesNullArgument() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Integer> target = new ClockFunc<>(
+            arg -> cnt.incrementAndGet(), 2
+        );
+        target.apply(null);
+        MatcherAssert.assertThat(target.apply(null), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void givesRightValuesUnderConcurrentLoad() throws Exception {
+        final Func<Integer, Integer> target = new ClockFunc<>(
+            arg -> arg, 100
+        );
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<Boolean>> tasks = new ArrayList<>(8);
+            for (int thread = 0; thread < 8; ++thread) {
+                tasks.add(
+                    () -> {
+                        boolean same = true;
+                        for (int idx = 0; idx < 10_000; ++idx) {
+                            final int key = idx % 300;
+                            same &= target.apply(key) == key;
+                        }
+                        return same;
+                    }
+                );
+            }
+            for (final Future<Boolean> res : threads.invokeAll(tasks)) {
+                MatcherAssert.assertThat(res.get(), Matchers.is(true));
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ConcurrentLruFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ConcurrentLruFuncTest {
+    @Test
+    public void returnsSameValueToConcurrentThreads() throws Exception {
+        final Func<Integer, Object> target = new ConcurrentLruFunc<>(
+            new ConcurrentLruFuncTest.Target(new AtomicInteger()), 10
+        );
+        final int threads = 16;
+        final ExecutorService exec = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Collection<Future<Object>> futures = new ArrayList<>(threads);
+        try {
+            for (int idx = 0; idx < threads; ++idx) {
+                futures.add(
+                    exec.submit(
+                        (Callable<Object>) () -> {
+                            start.await();
+                            return target.apply(1);
+                        }
+                    )
+                );
+            }
+            start.countDown();
+            final Collection<Object> values = new HashSet<>(threads);
+            for (final Future<Object> future : futures) {
+                values.add(future.get());
+            }
+            MatcherAssert.assertThat(values, Matchers.hasSize(1));
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedValues() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Object> target = new ConcurrentLruFunc<>(
+            new ConcurrentLruFuncTest.Target(cnt), 4, 1
+        );
+        final List<Object> values = new ArrayList<>(10);
+        for (int idx = 0; idx < 10; ++idx) {
+            values.add(target.apply(idx));
+        }
+        for (int idx = 6; idx < 10; ++idx) {
+            MatcherAssert.assertThat(
+                target.apply(idx),
+                Matchers.sameInstance(values.get(idx))
+            );
+        }
+        target.apply(0);
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(11));
+    }
+
+    @Test
+    public void neverHoldsMoreValuesThanSize() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Object> target = new ConcurrentLruFunc<>(
+            new ConcurrentLruFuncTest.Target(new AtomicInteger()), 10, 4, stats
+        );
+        for (int idx = 0; idx < 1000; ++idx) {
+            target.apply(idx);
+        }
+        MatcherAssert.assertThat(
+            stats.misses() - stats.evictions(Stats.Cause.SIZE),
+            Matchers.equalTo(10L)
+        );
+    }
+
+    @Test
+    public void usesNoMoreStripesThanSize() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Object> target = new ConcurrentLruFunc<>(
+            new ConcurrentLruFuncTest.Target(new AtomicInteger()), 1, 64, stats
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            target.apply(idx);
+        }
+        MatcherAssert.assertThat(
+            stats.misses() - stats.evictions(Stats.Cause.SIZE),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    public void cachesNothingWithZeroSize() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Object> target = new ConcurrentLruFunc<>(
+            new ConcurrentLruFuncTest.Target(cnt), 0
+        );
+        target.apply(1);
+        target.apply(1);
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Target func.
+     */
+    private static final class Target implements Func<Integer, Object> {
+
+        /**
+         * Counter.
+         */
+        private final AtomicInteger cnt;
+
+        /**
+         * Ctor.
+         *
+         * @param cnt Counter
+         */
+        private Target(final AtomicInteger cnt) {
+            this.cnt = cnt;
+        }
+
+        @Override
+        public Object apply(final Integer arg) {
+            this.cnt.incrementAndGet();
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ConcurrentWeakFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ConcurrentWeakFuncTest {
+    @Test
+    public void keepsValueWhileKeyIsReachable() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Object, Object> target =
+            new ConcurrentWeakFunc<>(new ConcurrentWeakFuncTest.Target(cnt));
+        final Object key = new Object();
+        final Object first = target.apply(key);
+        ConcurrentWeakFuncTest.clear();
+        MatcherAssert.assertThat(
+            target.apply(key),
+            Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void clearsValueIfKeyWasCollected() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Object, Object> target = new ConcurrentWeakFunc<>(
+            new ConcurrentWeakFuncTest.Target(new AtomicInteger()), 1, stats
+        );
+        final Reference<Object> ref = new WeakReference<>(new Object());
+        target.apply(ref.get());
+        ConcurrentWeakFuncTest.clear();
+        target.apply(new Object());
+        MatcherAssert.assertThat(ref.get(), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.COLLECTED),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public void expungesCollectedKeysOnInsertion() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Object, Object> target = new ConcurrentWeakFunc<>(
+            new ConcurrentWeakFuncTest.Target(new AtomicInteger()), 1, stats
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            target.apply(new Object());
+        }
+        ConcurrentWeakFuncTest.clear();
+        target.apply(new Object());
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.COLLECTED),
+            Matchers.equalTo(10L)
+        );
+    }
+
+    @Test
+    public void releasesValuesOfCollectedKeysOnLookup() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Object, Object> target = new ConcurrentWeakFunc<>(
+            new ConcurrentWeakFuncTest.Target(new AtomicInteger()), 1, stats
+        );
+        final Object key = new Object();
+        target.apply(key);
+        final Reference<Object> value =
+            new WeakReference<>(target.apply(new Object()));
+        ConcurrentWeakFuncTest.clear();
+        target.apply(key);
+        ConcurrentWeakFuncTest.clear();
+        MatcherAssert.assertThat(value.get(), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.COLLECTED),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(stats.hits(), Matchers.equalTo(1L));
+    }
+
+    @Test
+    public void comparesKeysByEquivalence() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<String, Object> target = new ConcurrentWeakFunc<>(
+            arg -> new ConcurrentWeakFuncTest.Target(cnt).apply(arg),
+            new Equivalence.Identity<>()
+        );
+        final String first = new String(new char[] {'a'});
+        target.apply(first);
+        target.apply(first);
+        target.apply(new String(new char[] {'a'}));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+    private static void clear() {
+        final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        final Reference<Object> ref = new WeakReference<>(new Object(), queue);
+        Reference<?> poll;
+        do {
+            poll = queue.poll();
+            System.gc();
+        } while (!ref.equals(poll));
+    }
+
+    /**
+     * Target func.
+     */
+    private static final class Target implements Func<Object, Object> {
+
+        /**
+         * Counter.
+         */
+        private final AtomicInteger cnt;
+
+        /**
+         * Ctor.
+         *
+         * @param cnt Counter
+         */
+        private Target(final AtomicInteger cnt) {
+            this.cnt = cnt;
+        }
+
+        @Override
+        public Object apply(final Object arg) {
+            this.cnt.incrementAndGet();
+            return new Object();
+        }
+    }
+}
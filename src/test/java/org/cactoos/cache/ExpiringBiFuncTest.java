@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.BiFunc;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ExpiringBiFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ExpiringBiFuncTest {
+    @Test
+    public void usesCachedValueBeforeExpiration() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final BiFunc<Integer, Integer, Integer> target = new ExpiringBiFunc<>(
+            (first, second) -> cnt.incrementAndGet(),
+            Duration.ofSeconds(10L), Expiry.AFTER_WRITE, clock
+        );
+        target.apply(1, 2);
+        clock.forward(Duration.ofSeconds(9L));
+        MatcherAssert.assertThat(target.apply(1, 2), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void expiresValueAfterWrite() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final BiFunc<Integer, Integer, Integer> target = new ExpiringBiFunc<>(
+            (first, second) -> cnt.incrementAndGet(),
+            Duration.ofSeconds(10L), Expiry.AFTER_WRITE, clock
+        );
+        target.apply(1, 2);
+        clock.forward(Duration.ofSeconds(6L));
+        target.apply(1, 2);
+        clock.forward(Duration.ofSeconds(6L));
+        MatcherAssert.assertThat(target.apply(1, 2), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void extendsValueLifetimeOnAccess() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final BiFunc<Integer, Integer, Integer> target = new ExpiringBiFunc<>(
+            (first, second) -> cnt.incrementAndGet(),
+            Duration.ofSeconds(10L), Expiry.AFTER_ACCESS, clock
+        );
+        for (int idx = 0; idx < 5; ++idx) {
+            target.apply(1, 2);
+            clock.forward(Duration.ofSeconds(6L));
+        }
+        MatcherAssert.assertThat(target.apply(1, 2), Matchers.equalTo(1));
+        clock.forward(Duration.ofSeconds(11L));
+        MatcherAssert.assertThat(target.apply(1, 2), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void removesExpiredValuesOfOtherKeys() throws Exception {
+        final FakeClock clock = new FakeClock();
+        final CacheStats stats = new CacheStats();
+        final BiFunc<Integer, Integer, Integer> target = new ExpiringBiFunc<>(
+            (first, second) -> first, Duration.ofSeconds(1L),
+            Expiry.AFTER_WRITE, clock, stats
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            target.apply(idx, idx);
+            clock.forward(Duration.ofMillis(100L));
+        }
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.EXPIRED),
+            Matchers.greaterThanOrEqualTo(89L)
+        );
+        MatcherAssert.assertThat(stats.hits(), Matchers.equalTo(0L));
+    }
+
+    @Test
+    public void startsLifetimeAfterLoading() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final BiFunc<Integer, Integer, Integer> target = new ExpiringBiFunc<>(
+            (first, second) -> {
+                clock.forward(Duration.ofSeconds(5L));
+                return cnt.incrementAndGet();
+            },
+            Duration.ofSeconds(10L), Expiry.AFTER_WRITE, clock
+        );
+        target.apply(1, 2);
+        clock.forward(Duration.ofSeconds(6L));
+        MatcherAssert.assertThat(target.apply(1, 2), Matchers.equalTo(1));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.ReferenceQueue;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link KeyProbe} and {@link WeakKey}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class KeyProbeTest {
+    @Test
+    public void equalsWeakKeyInBothDirections() {
+        final String key = "probe";
+        final Equivalence<String> equivalence = new Equivalence.Equals<>();
+        final KeyProbe<String> probe = new KeyProbe<>(
+            new StringBuilder(key).toString(), equivalence
+        );
+        final WeakKey<String> weak = new WeakKey<>(
+            key, equivalence, new ReferenceQueue<>()
+        );
+        MatcherAssert.assertThat(probe, Matchers.equalTo(weak));
+        MatcherAssert.assertThat(weak, Matchers.equalTo(probe));
+        MatcherAssert.assertThat(
+            probe.hashCode(), Matchers.equalTo(weak.hashCode())
+        );
+    }
+
+    @Test
+    public void doesNotEqualClearedWeakKey() {
+        final String key = "cleared";
+        final Equivalence<String> equivalence = new Equivalence.Equals<>();
+        final KeyProbe<String> probe = new KeyProbe<>(key, equivalence);
+        final WeakKey<String> weak = new WeakKey<>(
+            key, equivalence, new ReferenceQueue<>()
+        );
+        weak.clear();
+        MatcherAssert.assertThat(probe, Matchers.not(Matchers.equalTo(weak)));
+        MatcherAssert.assertThat(weak, Matchers.not(Matchers.equalTo(probe)));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.BiFunc;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link LruBiFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.CompareObjectsWithEquals")
+public final class LruBiFuncTest {
+    @Test
+    public void keepsRecentlyUsedValues() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final BiFunc<Object, Object, Object> target =
+            new LruBiFunc<>(new LruBiFuncTest.Target(cnt), 2);
+        final Object key = new Object();
+        final Object first = target.apply(key, key);
+        target.apply(new Object(), key);
+        target.apply(key, key);
+        target.apply(new Object(), key);
+        LruBiFuncTest.clear();
+        MatcherAssert.assertThat(
+            target.apply(key, key) == first,
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            cnt.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedValue() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final BiFunc<Object, Object, Object> target =
+            new LruBiFunc<>(new LruBiFuncTest.Target(cnt), 2);
+        final Object first = new Object();
+        final Object second = new Object();
+        target.apply(first, first);
+        target.apply(second, second);
+        target.apply(first, first);
+        target.apply(first, second);
+        LruBiFuncTest.clear();
+        target.apply(second, second);
+        MatcherAssert.assertThat(
+            cnt.get(),
+            Matchers.equalTo(4)
+        );
+    }
+
+    @Test
+    public void keepsValuesAfterGarbageCollection() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final BiFunc<Object, Object, Object> target = new LruBiFunc<>(
+            new LruBiFuncTest.Target(new AtomicInteger()), 2, stats
+        );
+        target.apply(1, 2);
+        LruBiFuncTest.clear();
+        target.apply(1, 2);
+        target.apply(1, 2);
+        MatcherAssert.assertThat(stats.misses(), Matchers.equalTo(1L));
+        MatcherAssert.assertThat(stats.hitRate(), Matchers.closeTo(0.67, 0.01));
+    }
+
+    @SuppressWarnings(
+        {
+            "PMD.DoNotCallGarbageCollectionExplicitly",
+            "PMD.EmptyCatchBlock",
+            "PMD.AvoidInstantiatingObjectsInLoops"
+        }
+    )
+    private static void clear() {
+        final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        final Reference<Object> ref = new WeakReference<>(new Object(), queue);
+        Reference<?> poll;
+        do {
+            poll = queue.poll();
+            System.gc();
+        } while (!ref.equals(poll));
+    }
+
+    /**
+     * Target func.
+     */
+    private static final class Target
+        implements BiFunc<Object, Object, Object> {
+
+        /**
+         * Counter.
+         */
+        private final AtomicInteger cnt;
+
+        /**
+         * Ctor.
+         *
+         * @param cnt Counter
+         */
+        private Target(final AtomicInteger cnt) {
+            this.cnt = cnt;
+        }
+
+        @Override
+        public Object apply(final Object first, final Object second) {
+            this.cnt.incrementAndGet();
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link LruLongFunc} and {@link LongTable}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class LruLongFuncTest {
+    @Test
+    public void evictsLeastRecentlyUsedValue() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final LongFunc<Integer> target = new LruLongFunc<>(
+            arg -> cnt.incrementAndGet(), 2
+        );
+        target.apply(1L);
+        target.apply(2L);
+        target.apply(1L);
+        target.apply(3L);
+        MatcherAssert.assertThat(target.apply(1L), Matchers.equalTo(1));
+        MatcherAssert.assertThat(target.apply(2L), Matchers.equalTo(4));
+    }
+
+    @Test(timeout = 5000L)
+    public void doesNotCacheNullValues() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final LongFunc<Object> target = new LruLongFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                return null;
+            },
+            4
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            MatcherAssert.assertThat(target.apply(1L), Matchers.nullValue());
+        }
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNullValuesInTable() {
+        new LongTable<Object>(4, true).put(1L, null);
+    }
+
+    @Test
+    public void behavesLikeMap() {
+        final LongTable<Long> table = new LongTable<>(4, false);
+        final Map<Long, Long> map = new HashMap<>(0);
+        final Random random = new Random(42L);
+        for (int idx = 0; idx < 100_000; ++idx) {
+            final long key = random.nextInt(300) * 1024L;
+            if (random.nextBoolean()) {
+                table.put(key, key + idx);
+                map.put(key, key + idx);
+            } else {
+                MatcherAssert.assertThat(
+                    table.remove(key), Matchers.equalTo(map.remove(key))
+                );
+            }
+            MatcherAssert.assertThat(
+                table.size(), Matchers.equalTo(map.size())
+            );
+        }
+        for (final Map.Entry<Long, Long> ent : map.entrySet()) {
+            MatcherAssert.assertThat(
+                table.get(ent.getKey()), Matchers.equalTo(ent.getValue())
+            );
+        }
+    }
+}
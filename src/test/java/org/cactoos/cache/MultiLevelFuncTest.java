@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link MultiLevelFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class MultiLevelFuncTest {
+    @Test
+    public void promotesDemotedValues() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Integer> target = new MultiLevelFunc<>(
+            arg -> cnt.incrementAndGet(), 1, 2
+        );
+        target.apply(1);
+        target.apply(2);
+        target.apply(3);
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        MatcherAssert.assertThat(target.apply(2), Matchers.equalTo(2));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(3));
+    }
+
+    @Test
+    public void doesNotCacheNullValues() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Integer> target = new MultiLevelFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                return null;
+            },
+            1, 1, stats
+        );
+        target.apply(1);
+        MatcherAssert.assertThat(target.apply(1), Matchers.nullValue());
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(stats.hits(), Matchers.equalTo(0L));
+    }
+
+    @Test
+    public void sharesValuesBetweenThreads() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Object> target = new MultiLevelFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                return new Object();
+            },
+            2, 10
+        );
+        final Object value = target.apply(1);
+        final ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            final List<Callable<Object>> tasks = new ArrayList<>(4);
+            for (int thread = 0; thread < 4; ++thread) {
+                tasks.add(() -> target.apply(1));
+            }
+            for (final Future<Object> res : threads.invokeAll(tasks)) {
+                MatcherAssert.assertThat(
+                    res.get(), Matchers.sameInstance(value)
+                );
+            }
+        } finally {
+            threads.shutdown();
+        }
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link NegativeFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class NegativeFuncTest {
+    @Test
+    public void remembersNullResults() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final Func<Integer, String> target = new NegativeFunc<>(
+            new SoftFunc<>(
+                arg -> {
+                    cnt.incrementAndGet();
+                    return null;
+                }
+            ),
+            Duration.ofSeconds(1L), clock
+        );
+        target.apply(1);
+        MatcherAssert.assertThat(target.apply(1), Matchers.nullValue());
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+        clock.forward(Duration.ofSeconds(2L));
+        target.apply(1);
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void remembersExceptions() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final BiFunc<Integer, Integer, String> target = new NegativeBiFunc<>(
+            (first, second) -> {
+                cnt.incrementAndGet();
+                throw new IOException("not found");
+            },
+            Duration.ofSeconds(1L), clock
+        );
+        final AtomicInteger thrown = new AtomicInteger();
+        for (int idx = 0; idx < 3; ++idx) {
+            try {
+                target.apply(1, 2);
+            } catch (final IOException ex) {
+                thrown.incrementAndGet();
+            }
+        }
+        MatcherAssert.assertThat(thrown.get(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void startsPeriodAfterSlowFailure() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final Func<Integer, String> target = new NegativeFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                clock.forward(Duration.ofSeconds(5L));
+                throw new IOException("timeout");
+            },
+            Duration.ofSeconds(1L), clock
+        );
+        final AtomicInteger thrown = new AtomicInteger();
+        for (int idx = 0; idx < 2; ++idx) {
+            try {
+                target.apply(1);
+            } catch (final IOException ex) {
+                thrown.incrementAndGet();
+            }
+        }
+        MatcherAssert.assertThat(thrown.get(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void doesNotRememberInterruption() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, String> target = new NegativeFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                throw new InterruptedException("stop");
+            },
+            Duration.ofSeconds(1L)
+        );
+        final AtomicInteger interrupted = new AtomicInteger();
+        for (int idx = 0; idx < 2; ++idx) {
+            try {
+                target.apply(1);
+            } catch (final InterruptedException ex) {
+                if (Thread.interrupted()) {
+                    interrupted.incrementAndGet();
+                }
+            }
+        }
+        MatcherAssert.assertThat(interrupted.get(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void passesPositiveResults() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Integer> target = new NegativeFunc<>(
+            arg -> cnt.incrementAndGet(), Duration.ofSeconds(1L)
+        );
+        target.apply(1);
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(2));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link OffHeapFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class OffHeapFuncTest {
+    @Test
+    public void decodesCachedValues() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, String> target = new OffHeapFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                return OffHeapFuncTest.text(arg);
+            },
+            new Codec.Serial<>(), 1L << 20
+        );
+        MatcherAssert.assertThat(
+            target.apply(3000), Matchers.equalTo(OffHeapFuncTest.text(3000))
+        );
+        MatcherAssert.assertThat(
+            target.apply(3000), Matchers.equalTo(OffHeapFuncTest.text(3000))
+        );
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedValues() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, String> target = new OffHeapFunc<>(
+            OffHeapFuncTest::text, new Codec.Serial<>(), 4096L,
+            OffHeapFunc.Memory.MAPPED, stats
+        );
+        target.apply(1500);
+        target.apply(1000);
+        target.apply(1500);
+        target.apply(1200);
+        target.apply(1500);
+        MatcherAssert.assertThat(
+            target.apply(1000), Matchers.equalTo(OffHeapFuncTest.text(1000))
+        );
+        MatcherAssert.assertThat(stats.misses(), Matchers.equalTo(4L));
+        MatcherAssert.assertThat(stats.hits(), Matchers.equalTo(2L));
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.SIZE), Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    public void skipsValuesLargerThanCapacity() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, String> target = new OffHeapFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                return OffHeapFuncTest.text(arg);
+            },
+            new Codec.Serial<>(), 2048L
+        );
+        target.apply(5000);
+        target.apply(5000);
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Text of a length.
+     * @param length Length
+     * @return Text
+     */
+    private static String text(final int length) {
+        final StringBuilder text = new StringBuilder(length);
+        for (int idx = 0; idx < length; ++idx) {
+            text.append((char) ('a' + idx % 26));
+        }
+        return text.toString();
+    }
+}
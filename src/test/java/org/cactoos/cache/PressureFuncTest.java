@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link PressureFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class PressureFuncTest {
+    @Test
+    public void keepsValuesWithoutPressure() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Integer> target = new PressureFunc<>(
+            arg -> cnt.incrementAndGet(), () -> 0.5, 0.8
+        );
+        for (int idx = 0; idx < 5000; ++idx) {
+            target.apply(idx);
+        }
+        MatcherAssert.assertThat(target.apply(0), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void shedsColdValuesGraduallyUnderPressure() throws Exception {
+        final AtomicReference<Double> level = new AtomicReference<>(0.0);
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Integer> target = new PressureFunc<>(
+            arg -> arg, level::get, 0.8, stats
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            target.apply(idx);
+        }
+        target.apply(0);
+        level.set(0.9);
+        target.apply(10);
+        target.apply(11);
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.SIZE), Matchers.equalTo(2L)
+        );
+        final long misses = stats.misses();
+        target.apply(0);
+        target.apply(3);
+        MatcherAssert.assertThat(stats.misses(), Matchers.equalTo(misses));
+        target.apply(1);
+        target.apply(2);
+        MatcherAssert.assertThat(
+            stats.misses(), Matchers.equalTo(misses + 2L)
+        );
+    }
+
+    @Test
+    public void shedsOncePerPressureEpoch() throws Exception {
+        final AtomicLong epoch = new AtomicLong();
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Integer> target = new PressureFunc<>(
+            arg -> arg, new PressureFuncTest.Steady(epoch), 0.8, stats
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            target.apply(idx);
+        }
+        epoch.incrementAndGet();
+        for (int idx = 100; idx < 200; ++idx) {
+            target.apply(idx);
+        }
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.SIZE), Matchers.equalTo(4L)
+        );
+    }
+
+    @Test
+    public void keepsSheddingWhilePressureStaysHigh() throws Exception {
+        final AtomicLong epoch = new AtomicLong();
+        final CacheStats stats = new CacheStats();
+        final Func<Integer, Integer> target = new PressureFunc<>(
+            arg -> arg, new PressureFuncTest.Steady(epoch), 0.8, stats
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            target.apply(idx);
+        }
+        for (int round = 0; round < 3; ++round) {
+            epoch.incrementAndGet();
+            for (int idx = 0; idx < 10; ++idx) {
+                target.apply(100 + round * 10 + idx);
+            }
+        }
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.SIZE), Matchers.equalTo(12L)
+        );
+    }
+
+    @Test
+    public void readsHeapPressureOnlyAfterCollection() {
+        final AtomicLong collections = new AtomicLong();
+        final AtomicInteger reads = new AtomicInteger();
+        final Pressure heap = new Pressure.Heap(
+            Collections.singleton(
+                (MemoryPoolMXBean) Proxy.newProxyInstance(
+                    Thread.currentThread().getContextClassLoader(),
+                    new Class<?>[] {MemoryPoolMXBean.class},
+                    (proxy, method, args) -> {
+                        final Object res;
+                        if ("getType".equals(method.getName())) {
+                            res = MemoryType.HEAP;
+                        } else if ("getUsage".equals(method.getName())) {
+                            res = new MemoryUsage(
+                                0L, reads.incrementAndGet(), 10L, 10L
+                            );
+                        } else {
+                            res = true;
+                        }
+                        return res;
+                    }
+                )
+            ),
+            collections
+        );
+        heap.level();
+        MatcherAssert.assertThat(heap.level(), Matchers.equalTo(0.1));
+        collections.incrementAndGet();
+        MatcherAssert.assertThat(heap.level(), Matchers.equalTo(0.2));
+        MatcherAssert.assertThat(reads.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void readsHeapPressure() {
+        MatcherAssert.assertThat(
+            new Pressure.Heap().level(),
+            Matchers.allOf(
+                Matchers.greaterThanOrEqualTo(0.0),
+                Matchers.lessThanOrEqualTo(1.0)
+            )
+        );
+    }
+
+    /**
+     * Pressure, which stays above the threshold.
+     */
+    private static final class Steady implements Pressure {
+
+        /**
+         * Epoch.
+         */
+        private final AtomicLong count;
+
+        /**
+         * Ctor.
+         *
+         * @param count Epoch
+         */
+        Steady(final AtomicLong count) {
+            this.count = count;
+        }
+
+        @Override
+        public double level() {
+            return 0.9;
+        }
+
+        @Override
+        public long epoch() {
+            return this.count.get();
+        }
+    }
+}
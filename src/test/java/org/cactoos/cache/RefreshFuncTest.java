@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link RefreshFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class RefreshFuncTest {
+    @Test
+    public void servesStaleValueWhileRefreshing() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final Queue<Runnable> tasks = new LinkedList<>();
+        final Func<Integer, Integer> target = new RefreshFunc<>(
+            arg -> cnt.incrementAndGet(), Duration.ofSeconds(10L),
+            new Retention.Lru(10), tasks::add, clock
+        );
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        clock.forward(Duration.ofSeconds(5L));
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        MatcherAssert.assertThat(tasks.size(), Matchers.equalTo(0));
+        clock.forward(Duration.ofSeconds(5L));
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        MatcherAssert.assertThat(tasks.size(), Matchers.equalTo(1));
+        tasks.poll().run();
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(2));
+        MatcherAssert.assertThat(tasks.size(), Matchers.equalTo(0));
+    }
+
+    @Test
+    public void keepsOldValueWhenRefreshFails() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final Queue<Runnable> tasks = new LinkedList<>();
+        final Func<Integer, Integer> target = new RefreshFunc<>(
+            arg -> {
+                if (cnt.incrementAndGet() == 2) {
+                    throw new IOException("refresh fails");
+                }
+                return cnt.get();
+            },
+            Duration.ofSeconds(1L), new Retention.Soft(), tasks::add, clock
+        );
+        target.apply(1);
+        clock.forward(Duration.ofSeconds(2L));
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        tasks.poll().run();
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        tasks.poll().run();
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(3));
+    }
+
+    @Test
+    public void keepsOldValueWhenRefreshReturnsNull() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final Queue<Runnable> tasks = new LinkedList<>();
+        final Func<Integer, Integer> target = new RefreshFunc<>(
+            arg -> {
+                Integer val = null;
+                if (cnt.incrementAndGet() != 2) {
+                    val = cnt.get();
+                }
+                return val;
+            },
+            Duration.ofSeconds(1L), new Retention.Soft(), tasks::add, clock
+        );
+        target.apply(1);
+        clock.forward(Duration.ofSeconds(2L));
+        target.apply(1);
+        tasks.poll().run();
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(1));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void keepsRefreshedValuesBeyondExpiration() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final FakeClock clock = new FakeClock();
+        final Queue<Runnable> tasks = new LinkedList<>();
+        final Func<Integer, Integer> target = new RefreshFunc<>(
+            arg -> cnt.incrementAndGet(), Duration.ofSeconds(1L),
+            Duration.ofSeconds(3L), tasks::add, clock
+        );
+        target.apply(1);
+        for (int idx = 0; idx < 10; ++idx) {
+            clock.forward(Duration.ofSeconds(2L));
+            target.apply(1);
+            tasks.poll().run();
+        }
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(11));
+        clock.forward(Duration.ofSeconds(4L));
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo(12));
+        MatcherAssert.assertThat(tasks.size(), Matchers.equalTo(0));
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.BiFunc;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link SingleFlightBiFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class SingleFlightBiFuncTest {
+    @Test
+    public void callsOriginOnceForConcurrentCallers() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final BiFunc<Integer, Integer, Object> target =
+            new SingleFlightBiFunc<>(
+                new SingleFlightBiFuncTest.Slow(cnt, release)
+            );
+        final int threads = 8;
+        final CountDownLatch entered = new CountDownLatch(threads);
+        final ExecutorService exec = Executors.newFixedThreadPool(threads);
+        try {
+            final Collection<Future<Object>> futures =
+                new ArrayList<>(threads);
+            for (int idx = 0; idx < threads; ++idx) {
+                futures.add(
+                    exec.submit(
+                        (Callable<Object>) () -> {
+                            entered.countDown();
+                            return target.apply(1, 2);
+                        }
+                    )
+                );
+            }
+            entered.await();
+            TimeUnit.MILLISECONDS.sleep(100L);
+            release.countDown();
+            final Collection<Object> values = new HashSet<>(threads);
+            for (final Future<Object> future : futures) {
+                values.add(future.get());
+            }
+            MatcherAssert.assertThat(values, Matchers.hasSize(1));
+            MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void loadsAgainAfterFlightLanded() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final BiFunc<Integer, Integer, Integer> target =
+            new SingleFlightBiFunc<>(
+                (first, second) -> cnt.incrementAndGet()
+            );
+        target.apply(1, 2);
+        MatcherAssert.assertThat(target.apply(1, 2), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void sharesExceptionWithWaitingCallers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BiFunc<Integer, Integer, Object> target =
+            new SingleFlightBiFunc<>(
+                (first, second) -> {
+                    release.await();
+                    throw new IOException("failed");
+                }
+            );
+        final ExecutorService exec = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Object> first =
+                exec.submit((Callable<Object>) () -> target.apply(1, 1));
+            final Future<Object> second =
+                exec.submit((Callable<Object>) () -> target.apply(1, 1));
+            TimeUnit.MILLISECONDS.sleep(100L);
+            release.countDown();
+            MatcherAssert.assertThat(
+                SingleFlightBiFuncTest.failure(first),
+                Matchers.instanceOf(IOException.class)
+            );
+            MatcherAssert.assertThat(
+                SingleFlightBiFuncTest.failure(second),
+                Matchers.instanceOf(IOException.class)
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void sharesErrorWithWaitingCallers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BiFunc<Integer, Integer, Object> target =
+            new SingleFlightBiFunc<>(
+                (first, second) -> {
+                    release.await();
+                    throw new LinkageError("broken");
+                }
+            );
+        final ExecutorService exec = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Object> first =
+                exec.submit((Callable<Object>) () -> target.apply(1, 1));
+            final Future<Object> second =
+                exec.submit((Callable<Object>) () -> target.apply(1, 1));
+            TimeUnit.MILLISECONDS.sleep(100L);
+            release.countDown();
+            MatcherAssert.assertThat(
+                SingleFlightBiFuncTest.failure(first),
+                Matchers.instanceOf(LinkageError.class)
+            );
+            MatcherAssert.assertThat(
+                SingleFlightBiFuncTest.failure(second),
+                Matchers.instanceOf(LinkageError.class)
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void doesNotBlockOtherKeys() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BiFunc<Integer, Integer, Integer> target =
+            new SingleFlightBiFunc<>(
+                (first, second) -> {
+                    if (first == 1) {
+                        release.await();
+                    }
+                    return first + second;
+                }
+            );
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Integer> blocked =
+                exec.submit(() -> target.apply(1, 1));
+            MatcherAssert.assertThat(target.apply(2, 1), Matchers.is(3));
+            release.countDown();
+            MatcherAssert.assertThat(blocked.get(), Matchers.is(2));
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    private static Throwable failure(final Future<?> future)
+        throws InterruptedException {
+        Throwable err = null;
+        try {
+            future.get();
+        } catch (final ExecutionException ex) {
+            err = ex.getCause();
+        }
+        return err;
+    }
+
+    /**
+     * Origin func which waits for release.
+     */
+    private static final class Slow
+        implements BiFunc<Integer, Integer, Object> {
+
+        /**
+         * Counter.
+         */
+        private final AtomicInteger cnt;
+
+        /**
+         * Release latch.
+         */
+        private final CountDownLatch release;
+
+        /**
+         * Ctor.
+         *
+         * @param cnt Counter
+         * @param release Release latch
+         */
+        private Slow(final AtomicInteger cnt, final CountDownLatch release) {
+            this.cnt = cnt;
+            this.release = release;
+        }
+
+        @Override
+        public Object apply(final Integer first, final Integer second)
+            throws InterruptedException {
+            this.cnt.incrementAndGet();
+            this.release.await();
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Bytes;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link SoftBytes}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class SoftBytesTest {
+    @Test
+    public void returnsCachedArrayFromHeap() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Bytes bytes = new SoftBytes(new SoftBytesTest.Target(cnt));
+        MatcherAssert.assertThat(
+            bytes.asBytes(),
+            Matchers.sameInstance(bytes.asBytes())
+        );
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void copiesBytesFromDirectBuffer() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Bytes bytes = new SoftBytes(
+            new SoftBytesTest.Target(cnt), SoftBytes.Storage.DIRECT
+        );
+        final byte[] first = bytes.asBytes();
+        first[0] = 0;
+        MatcherAssert.assertThat(
+            bytes.asBytes(),
+            Matchers.equalTo(new SoftBytesTest.Target(cnt).asBytes())
+        );
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void readsBytesFromMappedFile() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Bytes bytes = new SoftBytes(
+            new SoftBytesTest.Target(cnt), SoftBytes.Storage.MAPPED
+        );
+        MatcherAssert.assertThat(
+            bytes.asBytes(),
+            Matchers.equalTo(bytes.asBytes())
+        );
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Bytes counting its calls.
+     */
+    private static final class Target implements Bytes {
+
+        /**
+         * Calls counter.
+         */
+        private final AtomicInteger counter;
+
+        /**
+         * Ctor.
+         * @param cnt Calls counter
+         */
+        Target(final AtomicInteger cnt) {
+            this.counter = cnt;
+        }
+
+        @Override
+        public byte[] asBytes() {
+            this.counter.incrementAndGet();
+            return new byte[] {1, 2, 3};
+        }
+    }
+}
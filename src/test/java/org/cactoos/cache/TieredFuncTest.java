@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link TieredFunc} and {@link DiskStore}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+public final class TieredFuncTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsEvictedValuesFromDisk() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, String> target = new TieredFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                return String.valueOf(arg);
+            },
+            new Retention.Lru(1),
+            new DiskStore<>(
+                this.folder.newFolder().toPath(),
+                new Codec.Serial<>(), new Codec.Serial<>()
+            )
+        );
+        target.apply(1);
+        target.apply(2);
+        MatcherAssert.assertThat(target.apply(1), Matchers.equalTo("1"));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    public void reloadsValuesAfterRestart() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final DiskStore<Integer, String> before = new DiskStore<>(
+            dir, new Codec.Serial<>(), new Codec.Serial<>(), 256L
+        );
+        for (int idx = 0; idx < 20; ++idx) {
+            before.put(idx, String.valueOf(idx));
+        }
+        final String seven = "seven";
+        before.put(7, seven);
+        final DiskStore<Integer, String> after = new DiskStore<>(
+            dir, new Codec.Serial<>(), new Codec.Serial<>(), 256L
+        );
+        MatcherAssert.assertThat(after.get(7), Matchers.equalTo(seven));
+        MatcherAssert.assertThat(after.get(19), Matchers.equalTo("19"));
+        MatcherAssert.assertThat(after.get(20), Matchers.nullValue());
+        after.put(20, "20");
+        MatcherAssert.assertThat(after.get(20), Matchers.equalTo("20"));
+    }
+
+    @Test
+    public void retiresOldestSegments() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final DiskStore<Integer, String> store = new DiskStore<>(
+            dir, new Codec.Serial<>(), new Codec.Serial<>(), 256L, 2
+        );
+        store.put(0, "zero");
+        for (int idx = 0; idx < 100; ++idx) {
+            store.put(1 + idx % 3, String.valueOf(idx));
+        }
+        MatcherAssert.assertThat(
+            dir.toFile().list(), Matchers.arrayWithSize(2)
+        );
+        MatcherAssert.assertThat(store.get(0), Matchers.nullValue());
+        final String last = "99";
+        MatcherAssert.assertThat(store.get(1), Matchers.equalTo(last));
+        MatcherAssert.assertThat(
+            new DiskStore<Integer, String>(
+                dir, new Codec.Serial<>(), new Codec.Serial<>(), 256L, 1
+            ).get(1),
+            Matchers.equalTo(last)
+        );
+        MatcherAssert.assertThat(
+            dir.toFile().list(), Matchers.arrayWithSize(1)
+        );
+    }
+
+    @Test
+    public void doesNotWriteNullValues() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final Func<Integer, String> target = new TieredFunc<>(
+            arg -> null,
+            new Retention.Lru(1),
+            new DiskStore<>(
+                dir, new Codec.Serial<>(), new Codec.Serial<>(), 256L
+            )
+        );
+        for (int idx = 0; idx < 50; ++idx) {
+            target.apply(1);
+        }
+        MatcherAssert.assertThat(dir.toFile().list(), Matchers.emptyArray());
+    }
+
+    @Test
+    public void truncatesTornRecord() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final DiskStore<Integer, String> before = new DiskStore<>(
+            dir, new Codec.Serial<>(), new Codec.Serial<>(), 4096L
+        );
+        final String one = "one";
+        before.put(1, one);
+        before.put(2, "two");
+        final Path segment = dir.resolve("segment-00000000.dat");
+        final byte[] bytes = Files.readAllBytes(segment);
+        int end = bytes.length - 1;
+        while (bytes[end] == 0) {
+            --end;
+        }
+        bytes[end] = (byte) (bytes[end] + 1);
+        Files.write(segment, bytes);
+        final DiskStore<Integer, String> after = new DiskStore<>(
+            dir, new Codec.Serial<>(), new Codec.Serial<>(), 4096L
+        );
+        MatcherAssert.assertThat(after.get(1), Matchers.equalTo(one));
+        MatcherAssert.assertThat(after.get(2), Matchers.nullValue());
+        final String three = "three";
+        after.put(3, three);
+        MatcherAssert.assertThat(
+            new DiskStore<Integer, String>(
+                dir, new Codec.Serial<>(), new Codec.Serial<>(), 4096L
+            ).get(3),
+            Matchers.equalTo(three)
+        );
+    }
+}
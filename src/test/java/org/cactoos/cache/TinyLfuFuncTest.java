@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link TinyLfuFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class TinyLfuFuncTest {
+    @Test
+    public void keepsFrequentValuesDuringScan() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Integer> target = new TinyLfuFunc<>(
+            arg -> cnt.incrementAndGet(), 10
+        );
+        int scan = 100;
+        for (int round = 0; round < 50; ++round) {
+            if (round == 10) {
+                cnt.set(0);
+            }
+            for (int key = 0; key < 5; ++key) {
+                target.apply(key);
+            }
+            for (int idx = 0; idx < 20; ++idx) {
+                target.apply(scan);
+                ++scan;
+            }
+        }
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(40 * 20));
+    }
+
+    @Test
+    public void admitsNewPopularValue() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, Integer> target = new TinyLfuFunc<>(
+            arg -> cnt.incrementAndGet(), 2
+        );
+        target.apply(1);
+        target.apply(2);
+        target.apply(3);
+        for (int idx = 0; idx < 5; ++idx) {
+            target.apply(4);
+        }
+        target.apply(5);
+        cnt.set(0);
+        target.apply(4);
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(0));
+    }
+
+    @Test
+    public void halvesFrequencies() {
+        final FrequencySketch sketch = new FrequencySketch(1);
+        for (int idx = 0; idx < 10; ++idx) {
+            sketch.increment("a");
+        }
+        MatcherAssert.assertThat(sketch.frequency("a"), Matchers.equalTo(5));
+        MatcherAssert.assertThat(sketch.frequency("b"), Matchers.equalTo(0));
+    }
+}
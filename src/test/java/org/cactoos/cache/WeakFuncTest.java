@@ -39,6 +39,8 @@ import org.junit.Test;
  *
  * @since 0.1
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
 @SuppressWarnings("PMD.CompareObjectsWithEquals")
 public final class WeakFuncTest {
@@ -102,6 +104,50 @@ public final class WeakFuncTest {
         );
     }
 
+    @Test
+    public void findsValueByEqualKey() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Object, Object> target =
+            new WeakFunc<>(new WeakFuncTest.Target(cnt));
+        final String key = "weak key";
+        final Object first = target.apply(key);
+        final Object second = target.apply(new StringBuilder(key).toString());
+        MatcherAssert.assertThat(first, Matchers.sameInstance(second));
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    public void comparesKeysByIdentity() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Object, Object> target = new WeakFunc<>(
+            new WeakFuncTest.Target(cnt), new Equivalence.Identity<>()
+        );
+        final Object first = new WeakFuncTest.Costly(cnt);
+        final Object second = new WeakFuncTest.Costly(cnt);
+        target.apply(first);
+        target.apply(first);
+        target.apply(second);
+        MatcherAssert.assertThat(
+            cnt.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    public void reportsCollectedKeys() throws Exception {
+        final CacheStats stats = new CacheStats();
+        final Func<Object, Object> target = new WeakFunc<>(
+            new WeakFuncTest.Target(new AtomicInteger()), stats
+        );
+        target.apply(new Object());
+        WeakFuncTest.clear();
+        target.apply(new Object());
+        MatcherAssert.assertThat(
+            stats.evictions(Stats.Cause.COLLECTED),
+            Matchers.equalTo(1L)
+        );
+    }
+
     @SuppressWarnings(
         {
             "PMD.DoNotCallGarbageCollectionExplicitly",
@@ -144,4 +190,35 @@ public final class WeakFuncTest {
             return new Object();
         }
     }
+
+    /**
+     * Key with costly equals and hash code, which are counted.
+     */
+    private static final class Costly {
+
+        /**
+         * Counter.
+         */
+        private final AtomicInteger cnt;
+
+        /**
+         * Ctor.
+         *
+         * @param cnt Counter
+         */
+        private Costly(final AtomicInteger cnt) {
+            this.cnt = cnt;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            this.cnt.addAndGet(100);
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.cnt.addAndGet(100);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Kirill
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files
+ * (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights * to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cactoos.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link WeighedLruFunc}.
+ *
+ * @since 0.1
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class WeighedLruFuncTest {
+    @Test
+    public void evictsUntilWeightFitsBudget() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final WeighedLruFunc<Integer, byte[]> target = new WeighedLruFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                return new byte[arg];
+            },
+            (key, value) -> value.length,
+            100L
+        );
+        target.apply(40);
+        target.apply(30);
+        target.apply(40);
+        target.apply(50);
+        MatcherAssert.assertThat(target.weight(), Matchers.equalTo(90L));
+        target.apply(40);
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(3));
+        target.apply(30);
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(4));
+    }
+
+    @Test
+    public void doesNotCacheValueHeavierThanBudget() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger();
+        final Func<Integer, byte[]> target = new WeighedLruFunc<>(
+            arg -> {
+                cnt.incrementAndGet();
+                return new byte[arg];
+            },
+            (key, value) -> value.length,
+            100L
+        );
+        target.apply(10);
+        target.apply(200);
+        target.apply(200);
+        target.apply(10);
+        MatcherAssert.assertThat(cnt.get(), Matchers.equalTo(3));
+    }
+
+    @Test
+    public void weighsBiFuncResults() throws Exception {
+        final WeighedLruBiFunc<String, String, String> target =
+            new WeighedLruBiFunc<>(
+                (first, second) -> first + second,
+                String::length,
+                5L
+            );
+        final BiFunc<String, String, String> func = target;
+        func.apply("ab", "c");
+        func.apply("d", "e");
+        func.apply("f", "g");
+        MatcherAssert.assertThat(target.weight(), Matchers.equalTo(4L));
+    }
+}